@@ -1,11 +1,13 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,21 +15,29 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
+import seedu.address.logic.ExportJobRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.DataFileLock;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PagedAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WatchedAddressBookStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +48,13 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    private static final String MESSAGE_DATA_FILE_CHANGED =
+            "The data file was changed by another program, and its changes have been loaded (%1$s).";
+    private static final String MESSAGE_READ_ONLY_MODE = "The contact book is open in another FastCard window, "
+            + "so it is read-only here. Changes made in the other window are shown as they are saved.";
+    /** How long exiting waits for a cancelled export to delete its partial file. */
+    private static final long EXPORT_CANCEL_TIMEOUT_MILLIS = 2_000;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +63,16 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WriteBehindAddressBookStorage writeBehindStorage;
+    private JournalAddressBookStorage journalStorage;
+    private PagedAddressBookStorage pagedStorage;
+    private SqlAddressBookStorage sqlStorage;
+    private WatchedAddressBookStorage watchedStorage;
+    private AddressBookLoader loader;
+    private ExportJobRunner exportJobRunner;
+    private DataFileLock dataFileLock;
+    private boolean isReadOnly;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing FastCard ]===========================");
@@ -57,40 +84,147 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        initDataFileLock(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, writeBehindStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = new ModelManager(new AddressBook(), userPrefs);
+        initChangeLog(storage);
+        loader = new AddressBookLoader(model, AddressBookLoader.fromStorage(storage), Platform::runLater);
+        if (watchedStorage != null) {
+            watchedStorage.setChangeHandler(changes -> Platform.runLater(() -> applyExternalChanges(changes)));
+        }
 
-        logic = new LogicManager(model, storage);
+        exportJobRunner = new ExportJobRunner(Platform::runLater);
+        exportJobRunner.setCompletionHandler(message -> ui.showFeedback(message));
+        logic = new LogicManager(model, storage, loader, isReadOnly, exportJobRunner);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s contact book and {@code userPrefs}. <br>
-     * The data from the sample contact book will be used instead if {@code storage}'s contact book is not found,
-     * or an empty contact book will be used instead if errors occur when reading {@code storage}'s contact book.
+     * Takes the lock on the data file at {@code addressBookFilePath}, or opens the contact book read-only if another
+     * instance holds it. If the lock cannot be taken at all, the contact book is opened for changes as before.
+     */
+    private void initDataFileLock(Path addressBookFilePath) {
+        try {
+            dataFileLock = DataFileLock.tryAcquire(addressBookFilePath).orElse(null);
+            isReadOnly = dataFileLock == null;
+        } catch (IOException e) {
+            logger.warning("Failed to lock data file " + addressBookFilePath + ": " + StringUtil.getDetails(e));
+        }
+        if (isReadOnly) {
+            logger.info("Data file " + addressBookFilePath + " is locked by another instance, opening read-only");
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file and storage format in {@code userPrefs}.
+     * Saves, together with those of the change log, are written in the background, with failures reported in the
+     * result display. A JSON data file is also watched for changes made by other programs.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage fileStorage;
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case UserPrefs.STORAGE_FORMAT_JOURNAL:
+            journalStorage = new JournalAddressBookStorage(addressBookFilePath);
+            fileStorage = journalStorage;
+            break;
+        case UserPrefs.STORAGE_FORMAT_BINARY:
+            fileStorage = new BinaryAddressBookStorage(addressBookFilePath);
+            break;
+        case UserPrefs.STORAGE_FORMAT_SHARDED:
+            fileStorage = new ShardedAddressBookStorage(addressBookFilePath);
+            break;
+        case UserPrefs.STORAGE_FORMAT_PAGED:
+            pagedStorage = new PagedAddressBookStorage(addressBookFilePath);
+            fileStorage = pagedStorage;
+            break;
+        case UserPrefs.STORAGE_FORMAT_SQL:
+            sqlStorage = new SqlAddressBookStorage(addressBookFilePath);
+            fileStorage = sqlStorage;
+            break;
+        case UserPrefs.STORAGE_FORMAT_JSON:
+            watchedStorage = new WatchedAddressBookStorage(initJsonStorage(userPrefs));
+            fileStorage = watchedStorage;
+            break;
+        default:
+            logger.warning("Unknown storage format \"" + userPrefs.getAddressBookStorageFormat()
+                    + "\". Using " + UserPrefs.STORAGE_FORMAT_JSON + " instead.");
+            watchedStorage = new WatchedAddressBookStorage(initJsonStorage(userPrefs));
+            fileStorage = watchedStorage;
+            break;
+        }
+
+        // Only the JSON file storage, the one that is watched, saves the data file compressed
+        if (userPrefs.isDataCompressed() && watchedStorage == null) {
+            logger.warning("\"dataCompressed\" only applies to the " + UserPrefs.STORAGE_FORMAT_JSON
+                    + " storage format. The " + userPrefs.getAddressBookStorageFormat()
+                    + " data file is saved uncompressed; exports are still compressed.");
+        }
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        writeBehindStorage = new WriteBehindAddressBookStorage(fileStorage,
+                userPrefs.getSaveDelayMillis(), userPrefs.getMaxSaveStalenessMillis());
+        writeBehindStorage.setSaveFailureHandler(this::handleSaveFailure);
+        return writeBehindStorage;
+    }
+
+    /**
+     * Returns the {@code JsonAddressBookStorage} for the data file in {@code userPrefs}, which reports contact books
+     * loaded without their damaged contacts to the user.
+     */
+    private JsonAddressBookStorage initJsonStorage(ReadOnlyUserPrefs userPrefs) {
+        JsonAddressBookStorage jsonStorage =
+                new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.isDataCompressed());
+        jsonStorage.setRecoveryHandler(report -> Platform.runLater(() -> {
+            logic.markAddressBookUnsaved();
+            ui.showFeedback(report.toString());
+        }));
+        return jsonStorage;
+    }
+
+    /**
+     * Reports a failed background save of the contact book to the user.
+     */
+    private void handleSaveFailure(IOException e) {
+        String message = e instanceof AccessDeniedException
+                ? String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage());
+        logger.warning(message);
+        Platform.runLater(() -> ui.showFeedback(message));
+    }
+
+    /**
+     * Starts watching the data file, once the contact book has been loaded.
+     */
+    private void startWatchingDataFile() {
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample FastCard Contact Book.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty Fast Card Contact Book."); // @Codecov [ignore]
-            initialData = new AddressBook();
+            watchedStorage.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch data file for changes " + StringUtil.getDetails(e));
         }
+    }
+
+    /**
+     * Applies the changes made to the data file by another program to the model, as one change.
+     */
+    private void applyExternalChanges(WatchedAddressBookStorage.Changes changes) {
+        model.batch(changes::applyTo);
+        ui.showFeedback(String.format(MESSAGE_DATA_FILE_CHANGED, changes));
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Restores the change log of {@code storage}'s contact book into the model, so that changes can still be exported
+     * since the last export. Changes are recorded afresh if it is not found or cannot be read.
+     */
+    private void initChangeLog(Storage storage) {
+        try {
+            storage.readChangeLog().ifPresent(model.getChangeLog()::resetData);
+        } catch (DataLoadingException e) {
+            logger.warning("Change log at " + storage.getChangeLogFilePath() + " could not be loaded."
+                    + " Will be recording changes from now on.");
+        }
     }
 
     private void initLogging(Config config) {
@@ -172,11 +306,66 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FastCard " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (isReadOnly) {
+            ui.showFeedback(MESSAGE_READ_ONLY_MODE);
+        }
+        loader.start();
+        if (watchedStorage != null) {
+            loader.getCompletion().thenRun(this::startWatchingDataFile);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FastCard ] =============================");
+        if (exportJobRunner != null && exportJobRunner.isRunning()) {
+            logger.info("Cancelling the running export");
+            try {
+                if (!exportJobRunner.cancelAndWait(EXPORT_CANCEL_TIMEOUT_MILLIS)) {
+                    logger.warning("The running export did not stop in time, so its partial file may be left");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (writeBehindStorage != null) {
+            try {
+                writeBehindStorage.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save contact book " + StringUtil.getDetails(e));
+            }
+        }
+        if (watchedStorage != null) {
+            watchedStorage.close();
+        }
+        if (journalStorage != null) {
+            try {
+                journalStorage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close contact book journal " + StringUtil.getDetails(e));
+            }
+        }
+        if (pagedStorage != null) {
+            try {
+                pagedStorage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close contact book page file " + StringUtil.getDetails(e));
+            }
+        }
+        if (sqlStorage != null) {
+            try {
+                sqlStorage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close contact book database " + StringUtil.getDetails(e));
+            }
+        }
+        if (dataFileLock != null) {
+            try {
+                dataFileLock.close();
+            } catch (IOException e) {
+                logger.warning("Failed to release data file lock " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses and decompresses streamed content in the gzip format.
+ */
+public class CompressionUtil {
+
+    /**
+     * The deflate level used for compressed files. Saved data is highly repetitive, so higher levels shrink it little
+     * further while taking noticeably longer.
+     */
+    public static final int COMPRESSION_LEVEL = 5;
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CompressionUtil() {}
+
+    /**
+     * Returns a stream that compresses what is written to it into {@code out}.
+     * Closing the returned stream finishes the compressed content and closes {@code out}.
+     */
+    public static GZIPOutputStream compress(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(COMPRESSION_LEVEL);
+            }
+        };
+    }
+
+    /**
+     * Writes what {@code contentWriter} writes to {@code out} in compressed form, as it is written.
+     * {@code out} is not closed.
+     */
+    public static void writeCompressed(OutputStream out, FileUtil.ContentWriter contentWriter) throws IOException {
+        requireNonNull(contentWriter);
+        GZIPOutputStream compressed = compress(out);
+        contentWriter.writeTo(compressed);
+        compressed.finish();
+    }
+
+    /**
+     * Returns a stream of the content of {@code in}, decompressing it if it starts with the gzip magic bytes.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream decompressIfCompressed(InputStream in) throws IOException {
+        requireNonNull(in);
+        InputStream markable = in.markSupported() ? in : new BufferedInputStream(in, BUFFER_SIZE);
+        markable.mark(2);
+        int first = markable.read();
+        int second = markable.read();
+        markable.reset();
+        if (first == GZIP_MAGIC_FIRST_BYTE && second == GZIP_MAGIC_SECOND_BYTE) {
+            return new GZIPInputStream(markable, BUFFER_SIZE);
+        }
+        return markable;
+    }
+}
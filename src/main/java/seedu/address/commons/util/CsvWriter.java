@@ -0,0 +1,108 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes rows of comma-separated values in the format of RFC 4180.
+ * <p>
+ * Rows end with CRLF. A field is enclosed in double quotes only if it contains a comma, a double quote, a CR or an
+ * LF, and double quotes inside it are doubled. Each row is gathered in a builder that is reused for every row, and
+ * handed to the underlying writer whole, so writing a row creates no intermediate strings.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    public static final String LINE_SEPARATOR = "\r\n";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final Writer out;
+    private final StringBuilder row = new StringBuilder();
+    private boolean isRowEmpty = true;
+
+    /**
+     * Creates a {@code CsvWriter} that writes to {@code out}, which should be buffered.
+     */
+    public CsvWriter(Writer out) {
+        requireNonNull(out);
+        this.out = out;
+    }
+
+    /**
+     * Adds {@code value} as the next field of the current row. A null value is written as an empty field.
+     */
+    public CsvWriter writeField(CharSequence value) {
+        if (!isRowEmpty) {
+            row.append(SEPARATOR);
+        }
+        isRowEmpty = false;
+        if (value != null) {
+            appendField(row, value);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current row and writes it out.
+     */
+    public void endRow() throws IOException {
+        row.append(LINE_SEPARATOR);
+        out.append(row);
+        row.setLength(0);
+        isRowEmpty = true;
+    }
+
+    /**
+     * Writes {@code fields} as a row of their own.
+     */
+    public void writeRow(CharSequence... fields) throws IOException {
+        for (CharSequence field : fields) {
+            writeField(field);
+        }
+        endRow();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Appends {@code value} to {@code builder} as a field, enclosed in double quotes if it needs to be.
+     */
+    static void appendField(StringBuilder builder, CharSequence value) {
+        if (!needsQuotes(value)) {
+            builder.append(value);
+            return;
+        }
+        builder.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                builder.append(QUOTE);
+            }
+            builder.append(c);
+        }
+        builder.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the contact book into the model in the background, so that the app can be used while it loads.
+ * <p>
+ * The whole contact book is read and validated on a background thread before any person is added. Its persons are
+ * then added to the model in batches, each as a single change, through the UI executor, so the UI keeps responding
+ * between batches. The model must only be changed
+ * through the UI executor's thread, which is also the thread that must call {@link #awaitCompletion()}.
+ * If the contact book cannot be read, loading completes with the model left empty and {@link #isFailed()} true.
+ */
+public class AddressBookLoader {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    public static final String MESSAGE_READING = "Loading contacts...";
+    public static final String MESSAGE_PROGRESS = "Loading contacts... %1$d of %2$d";
+    public static final String MESSAGE_LOADED = "";
+    public static final String MESSAGE_FAILED = "Contacts could not be loaded, so changes cannot be made or saved. "
+            + "Restart FastCard to try again.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Source source;
+    private final Executor uiExecutor;
+    private final int batchSize;
+    private final CompletableFuture<ReadOnlyAddressBook> read = new CompletableFuture<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final SimpleStringProperty status = new SimpleStringProperty(MESSAGE_READING);
+
+    // The fields below are only used on the UI executor's thread.
+    private List<Person> persons;
+    private int addedCount;
+    private boolean isFailed;
+
+    /**
+     * Creates a loader that adds the contact book from {@code source} to {@code model} through {@code uiExecutor}.
+     */
+    public AddressBookLoader(Model model, Source source, Executor uiExecutor) {
+        this(model, source, uiExecutor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a loader that adds persons to {@code model} in batches of {@code batchSize}.
+     */
+    public AddressBookLoader(Model model, Source source, Executor uiExecutor, int batchSize) {
+        requireAllNonNull(model, source, uiExecutor);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        this.model = model;
+        this.source = source;
+        this.uiExecutor = uiExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns a source that reads the contact book from {@code storage}, or the sample contact book if
+     * {@code storage} has none yet.
+     */
+    public static Source fromStorage(Storage storage) {
+        requireNonNull(storage);
+        return () -> {
+            logger.info("Using data file : " + storage.getAddressBookFilePath());
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+            if (addressBook.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample FastCard Contact Book.");
+            }
+            return addressBook.orElseGet(SampleDataUtil::getSampleAddressBook);
+        };
+    }
+
+    /**
+     * Starts reading the contact book on a background thread.
+     */
+    public void start() {
+        Thread reader = new Thread(() -> {
+            try {
+                read.complete(source.read());
+            } catch (DataLoadingException | RuntimeException e) {
+                read.completeExceptionally(e);
+            }
+        }, "contact-book-loader");
+        reader.setDaemon(true);
+        reader.start();
+        read.whenComplete((addressBook, error) -> uiExecutor.execute(this::addNextBatch));
+    }
+
+    /**
+     * Returns a future that completes once every person has been added to the model.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    public boolean isComplete() {
+        return completion.isDone();
+    }
+
+    /**
+     * Returns true if the contact book could not be read, so that the model was left without its persons.
+     * Must be called on the UI executor's thread.
+     */
+    public boolean isFailed() {
+        return isFailed;
+    }
+
+    /**
+     * Returns a description of the loading progress, which is empty once loading is complete.
+     */
+    public ReadOnlyStringProperty statusProperty() {
+        return status;
+    }
+
+    /**
+     * Waits for the contact book to be read, then adds every remaining person to the model at once.
+     * Must be called on the UI executor's thread.
+     */
+    public void awaitCompletion() {
+        if (isComplete()) {
+            return;
+        }
+        logger.info("Waiting for the contact book to finish loading");
+        readPersons();
+        addPersons(persons.size());
+    }
+
+    private void addNextBatch() {
+        if (isComplete()) {
+            return;
+        }
+        readPersons();
+        addPersons(Math.min(addedCount + batchSize, persons.size()));
+        if (!isComplete()) {
+            uiExecutor.execute(this::addNextBatch);
+        }
+    }
+
+    /**
+     * Adds the persons up to position {@code end} that have not been added yet, as a single change to the model.
+     */
+    private void addPersons(int end) {
+        List<Person> batch = persons.subList(addedCount, end);
+        if (!batch.isEmpty()) {
+            model.loadPersons(batch);
+        }
+        addedCount = end;
+
+        if (addedCount < persons.size()) {
+            status.set(String.format(MESSAGE_PROGRESS, addedCount, persons.size()));
+            return;
+        }
+        logger.info("Loaded " + addedCount + " contacts");
+        persons = null;
+        status.set(isFailed ? MESSAGE_FAILED : MESSAGE_LOADED);
+        completion.complete(null);
+    }
+
+    private void readPersons() {
+        if (persons != null) {
+            return;
+        }
+        try {
+            persons = new ArrayList<>(read.join().getPersonList());
+        } catch (CompletionException e) {
+            logger.warning("Contact book could not be loaded, leaving it empty and unsaved: " + e.getCause());
+            persons = new ArrayList<>();
+            isFailed = true;
+        }
+    }
+
+    /**
+     * Reads the contact book to be loaded. Called on the loader's background thread.
+     */
+    @FunctionalInterface
+    public interface Source {
+        ReadOnlyAddressBook read() throws DataLoadingException;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ExportJob;
+
+/**
+ * Runs one {@link ExportJob} at a time on a background thread, so that the app can be used while it runs.
+ * <p>
+ * The progress of the job, in rows written and rows written per second, is published through the UI executor,
+ * which is also where the job's success action is run and the message describing how the job ended is passed to
+ * the completion handler.
+ * Jobs must be started and cancelled on the UI executor's thread.
+ */
+public class ExportJobRunner {
+
+    public static final String MESSAGE_STARTING = "Exporting %1$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting %1$s... %2$d of %3$d rows (%4$d rows/s)";
+    public static final String MESSAGE_IDLE = "";
+
+    /** The shortest time between updates of the progress shown, so that the UI executor is not flooded. */
+    static final long PROGRESS_PERIOD_NANOS = 200_000_000L;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportJobRunner.class);
+
+    private final Executor uiExecutor;
+    private final SimpleStringProperty status = new SimpleStringProperty(MESSAGE_IDLE);
+    private Consumer<String> completionHandler = message -> {};
+
+    // The fields below are only used on the UI executor's thread.
+    private ExportJob runningJob;
+    private Thread runningWriter;
+    private CompletableFuture<String> completion = CompletableFuture.completedFuture(MESSAGE_IDLE);
+
+    /**
+     * Creates a runner that reports progress and completion through {@code uiExecutor}.
+     */
+    public ExportJobRunner(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Sets the handler that is given the message describing how each job ended.
+     */
+    public void setCompletionHandler(Consumer<String> completionHandler) {
+        this.completionHandler = requireNonNull(completionHandler);
+    }
+
+    /**
+     * Returns a description of the progress of the running job, which is empty when no job is running.
+     */
+    public ReadOnlyStringProperty statusProperty() {
+        return status;
+    }
+
+    public boolean isRunning() {
+        return runningJob != null;
+    }
+
+    /**
+     * Starts running {@code job} on a background thread, unless another job is still running.
+     * {@link #getCompletion()} then returns a future of the message describing how the job ended.
+     *
+     * @return false if another job is still running.
+     */
+    public boolean start(ExportJob job) {
+        requireNonNull(job);
+        if (isRunning()) {
+            return false;
+        }
+        runningJob = job;
+        completion = new CompletableFuture<>();
+        status.set(String.format(MESSAGE_STARTING, job.getFileName()));
+
+        CompletableFuture<String> jobCompletion = completion;
+        long startTime = System.nanoTime();
+        Thread writer = new Thread(() -> {
+            String message = job.run(new ProgressReporter(job, startTime));
+            uiExecutor.execute(() -> finish(job, jobCompletion, message));
+        }, "export-job");
+        writer.setDaemon(true);
+        writer.start();
+        runningWriter = writer;
+        return true;
+    }
+
+    /**
+     * Cancels the running job, which then deletes its partial file and ends.
+     *
+     * @return false if no job is running.
+     */
+    public boolean cancel() {
+        if (!isRunning()) {
+            return false;
+        }
+        runningJob.cancel();
+        return true;
+    }
+
+    /**
+     * Cancels the running job and waits at most {@code timeoutMillis} for it to delete its partial file, for use when
+     * the app exits and the job's thread would otherwise be stopped part way.
+     *
+     * @return false if the job was still running when the wait ended.
+     */
+    public boolean cancelAndWait(long timeoutMillis) throws InterruptedException {
+        if (!cancel()) {
+            return true;
+        }
+        runningWriter.join(timeoutMillis);
+        return !runningWriter.isAlive();
+    }
+
+    /**
+     * Returns a future that completes once the last job started has ended.
+     */
+    public CompletableFuture<String> getCompletion() {
+        return completion;
+    }
+
+    private void finish(ExportJob job, CompletableFuture<String> jobCompletion, String message) {
+        if (runningJob == job) {
+            runningJob = null;
+            runningWriter = null;
+            status.set(MESSAGE_IDLE);
+        }
+        if (job.isSucceeded()) {
+            job.getSuccessAction().ifPresent(Runnable::run);
+        }
+        completionHandler.accept(message);
+        jobCompletion.complete(message);
+    }
+
+    /**
+     * Publishes the progress of a job, at most once every {@link #PROGRESS_PERIOD_NANOS}.
+     * Used on the job's own thread.
+     */
+    private class ProgressReporter implements IntConsumer {
+
+        private final ExportJob job;
+        private final long startTime;
+        private long lastReportTime;
+
+        ProgressReporter(ExportJob job, long startTime) {
+            this.job = job;
+            this.startTime = startTime;
+            this.lastReportTime = startTime;
+        }
+
+        @Override
+        public void accept(int written) {
+            long now = System.nanoTime();
+            if (now - lastReportTime < PROGRESS_PERIOD_NANOS) {
+                return;
+            }
+            lastReportTime = now;
+            long rate = written * 1_000_000_000L / Math.max(1, now - startTime);
+            String progress = String.format(MESSAGE_PROGRESS, job.getFileName(), written, job.getSize(), rate);
+            logger.fine(progress);
+            uiExecutor.execute(() -> {
+                if (runningJob == job) {
+                    status.set(progress);
+                }
+            });
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -32,6 +33,18 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Makes the next command save the contact book even if it is unchanged, such as after damaged contacts were left
+     * out of it when it was loaded, so that the data file no longer holds them.
+     */
+    void markAddressBookUnsaved();
+
+    /** Returns a description of the progress of loading the contact book, which is empty once it is loaded. */
+    ReadOnlyStringProperty getLoadStatus();
+
+    /** Returns a description of the progress of the export running in the background, which is empty if none is. */
+    ReadOnlyStringProperty getExportStatus();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -2,19 +2,26 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportJob;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -29,19 +36,74 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_READ_ONLY = "The contact book is open in another FastCard window, so it can "
+            + "only be viewed here. Close the other window and restart FastCard to make changes.";
+
+    public static final String MESSAGE_EXPORT_RUNNING = "An export is already running. Wait for it to finish, or "
+            + "enter " + CancelCommand.COMMAND_WORD + " to stop it.";
+
+    public static final String MESSAGE_NO_EXPORT_RUNNING = "There is no export running to cancel.";
+
+    /** Version that never matches the model, so the next command saves the contact book. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookLoader loader;
+    private final boolean isReadOnly;
+    /** Whether the loader failed to read the contact book, which must then not be changed or saved. */
+    private boolean isLoadFailed;
+    private final ExportJobRunner exportJobRunner;
+
+    /** Version of the contact book that was last written to storage, see {@link Model#getAddressBookVersion()}. */
+    private long savedAddressBookVersion;
+    private boolean isLoaded;
+    /** Whether the contact book must be saved by the next command even if it is unchanged. */
+    private boolean isSaveNeeded;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The contact book in {@code model} is assumed to match storage, unless the data file does not exist yet.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} whose contact book is still being loaded into {@code model} by
+     * {@code loader}. Commands that need the whole contact book wait for loading to complete, and nothing is saved
+     * before then. Once loaded, the contact book is assumed to match storage, unless the data file does not exist.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader loader) {
+        this(model, storage, loader, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, AddressBookLoader)}.
+     * If {@code isReadOnly}, commands that change the contact book are rejected, and it is never saved.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader loader, boolean isReadOnly) {
+        this(model, storage, loader, isReadOnly, new ExportJobRunner(Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, AddressBookLoader, boolean)},
+     * which runs exports in the background through {@code exportJobRunner}.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader loader, boolean isReadOnly,
+            ExportJobRunner exportJobRunner) {
         this.model = model;
         this.storage = storage;
+        this.loader = loader;
+        this.isReadOnly = isReadOnly;
+        this.exportJobRunner = exportJobRunner;
         addressBookParser = new AddressBookParser();
+        if (loader == null) {
+            markLoaded();
+        }
     }
 
     @Override
@@ -50,10 +112,40 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (isReadOnly && command.changesContactBook()) {
+            throw new CommandException(MESSAGE_READ_ONLY);
+        }
+        if (!isLoaded && command.needsLoadedContactBook()) {
+            loader.awaitCompletion();
+        }
+        if (!isLoaded && loader.isComplete()) {
+            markLoaded();
+        }
+        if (isLoadFailed && command.changesContactBook()) {
+            throw new CommandException(AddressBookLoader.MESSAGE_FAILED);
+        }
         commandResult = command.execute(model);
+        runExportJobs(commandResult);
+        if (!isLoaded) {
+            logger.fine("Contact book still loading, skipping save");
+            return commandResult;
+        }
+        if (isReadOnly || isLoadFailed) {
+            return commandResult;
+        }
+
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion && !isSaveNeeded) {
+            logger.fine("Contact book unchanged, skipping save");
+            return commandResult;
+        }
 
         try {
+            // The change log goes first, so that it is never behind the contact book
+            storage.saveChangeLog(model.getChangeLog());
             storage.saveAddressBook(model.getAddressBook());
+            savedAddressBookVersion = version;
+            isSaveNeeded = false;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -63,6 +155,68 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Starts the export in {@code commandResult} in the background, or cancels the running one, if it asks to.
+     */
+    private void runExportJobs(CommandResult commandResult) throws CommandException {
+        Optional<ExportJob> exportJob = commandResult.getExportJob();
+        if (exportJob.isPresent() && !exportJobRunner.start(exportJob.get())) {
+            throw new CommandException(MESSAGE_EXPORT_RUNNING);
+        }
+        if (exportJob.isPresent() && exportJob.get().isExportingChanges() && !isReadOnly && !isLoadFailed) {
+            // The export watermark moves once the job succeeds
+            exportJobRunner.getCompletion().thenRun(this::saveChangeLog);
+        }
+        if (commandResult.isCancelExport() && !exportJobRunner.cancel()) {
+            throw new CommandException(MESSAGE_NO_EXPORT_RUNNING);
+        }
+    }
+
+    /**
+     * Saves the change log of the contact book, which changes apart from the contact book when changes are exported.
+     */
+    private void saveChangeLog() {
+        try {
+            storage.saveChangeLog(model.getChangeLog());
+        } catch (IOException ioe) {
+            logger.warning("Could not save the change log: " + ioe.getMessage());
+        }
+    }
+
+    private void markLoaded() {
+        isLoaded = true;
+        if (loader != null && loader.isFailed()) {
+            isLoadFailed = true;
+            return;
+        }
+        savedAddressBookVersion = Files.exists(storage.getAddressBookFilePath())
+                ? model.getAddressBookVersion()
+                : UNSAVED_VERSION;
+
+        // The change log may have been saved with changes the contact book was not
+        ChangeLog changeLog = model.getChangeLog();
+        long sequence = changeLog.getSequence();
+        changeLog.reconcile(model.getAddressBook().getPersonList());
+        if (changeLog.getSequence() != sequence && !isReadOnly) {
+            saveChangeLog();
+        }
+    }
+
+    @Override
+    public void markAddressBookUnsaved() {
+        isSaveNeeded = true;
+    }
+
+    @Override
+    public ReadOnlyStringProperty getLoadStatus() {
+        return loader == null ? new SimpleStringProperty(AddressBookLoader.MESSAGE_LOADED) : loader.statusProperty();
+    }
+
+    @Override
+    public ReadOnlyStringProperty getExportStatus() {
+        return exportJobRunner.statusProperty();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.BackupStore;
+
+/**
+ * Backs up the contact book beside its data file, then deletes the oldest backups beyond the number to keep.
+ */
+public class BackupCommand extends Command {
+
+    public static final String COMMAND_WORD = "backup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Backs up all contact(s). "
+            + "Use " + RestoreCommand.COMMAND_WORD + " to see the backups or restore one.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Backed up %1$d contact(s) as %2$s (%3$d bytes of new data).";
+    public static final String MESSAGE_FAILURE = "Failed to back up contacts: %s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        BackupStore backupStore = new BackupStore(BackupStore.getBackupDirectory(model.getAddressBookFilePath()));
+        try {
+            BackupStore.Backup backup = backupStore.createBackup(model.getAddressBook(), Instant.now());
+            backupStore.prune(model.getUserPrefs().getBackupRetentionCount());
+            return new CommandResult(String.format(MESSAGE_SUCCESS,
+                    backup.getPersonCount(), backup.getId(), backup.getNewBytes()));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof BackupCommand;
+    }
+}
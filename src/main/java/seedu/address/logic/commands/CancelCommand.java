@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import seedu.address.model.Model;
+
+/**
+ * Cancels the export running in the background, deleting the partial file.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_CANCELLING = "Cancelling the export...";
+
+    @Override
+    public CommandResult execute(Model model) {
+        return CommandResult.cancellingExport(MESSAGE_CANCELLING);
+    }
+
+    @Override
+    public boolean needsLoadedContactBook() {
+        return false;
+    }
+
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
+}
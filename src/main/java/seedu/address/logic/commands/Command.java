@@ -17,4 +17,19 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command must see the whole contact book, so it waits for the contact book to finish
+     * loading at startup. Commands that do not use the contact book can run while it loads.
+     */
+    public boolean needsLoadedContactBook() {
+        return true;
+    }
+
+    /**
+     * Returns true if this command may change the contact book, so it cannot run where the contact book is read-only.
+     */
+    public boolean changesContactBook() {
+        return true;
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -28,15 +29,28 @@ public class CommandResult {
     */
     private final int focusIndex;
 
+    /** The export to run in the background, or null if there is none. */
+    private final ExportJob exportJob;
+
+    /** The export running in the background should be cancelled. */
+    private final boolean cancelExport;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean toggleDetail, int focusIndex) {
+        this(feedbackToUser, showHelp, exit, toggleDetail, focusIndex, null, false);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean toggleDetail, int focusIndex,
+            ExportJob exportJob, boolean cancelExport) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.toggleDetail = toggleDetail;
         this.exit = exit;
         this.focusIndex = focusIndex;
+        this.exportJob = exportJob;
+        this.cancelExport = cancelExport;
     }
 
     /**
@@ -47,6 +61,22 @@ public class CommandResult {
         this(feedbackToUser, false, false, false, -1);
     }
 
+    /**
+     * Returns a {@code CommandResult} with the specified {@code feedbackToUser} that starts {@code exportJob} in the
+     * background.
+     */
+    public static CommandResult startingExport(String feedbackToUser, ExportJob exportJob) {
+        return new CommandResult(feedbackToUser, false, false, false, -1, requireNonNull(exportJob), false);
+    }
+
+    /**
+     * Returns a {@code CommandResult} with the specified {@code feedbackToUser} that cancels the export running in the
+     * background.
+     */
+    public static CommandResult cancellingExport(String feedbackToUser) {
+        return new CommandResult(feedbackToUser, false, false, false, -1, null, true);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -67,6 +97,14 @@ public class CommandResult {
         return focusIndex != -1;
     }
 
+    public Optional<ExportJob> getExportJob() {
+        return Optional.ofNullable(exportJob);
+    }
+
+    public boolean isCancelExport() {
+        return cancelExport;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +119,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && cancelExport == otherCommandResult.cancelExport;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, cancelExport);
     }
 
     @Override
@@ -95,6 +134,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("cancelExport", cancelExport)
                 .toString();
     }
 
@@ -16,4 +16,13 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false, -1);
     }
 
+    @Override
+    public boolean needsLoadedContactBook() {
+        return false;
+    }
+
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
 }
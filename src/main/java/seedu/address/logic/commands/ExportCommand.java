@@ -1,48 +1,95 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.ExportJob.Column;
+import seedu.address.logic.commands.ExportJob.Format;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Exports all contact(s) from the address book to a CSV file on the user's Desktop.
+ * Exports all contact(s) from the address book, or only those in the filtered list, to a file on the user's Desktop.
+ * Only the chosen columns are exported, as CSV, JSON Lines or vCard. Instead of the contacts themselves, the contacts
+ * added, edited or deleted since the last such export, or since a point in time, can be exported with how they changed.
  *
  * This command enforces that all exports go to the user's Desktop folder,
  * regardless of what file path the user provides. The user can only customize the filename.
+ * When the user has chosen to compress saved data, the file is gzip-compressed and given a ".gz" extension.
+ * The file is written in the background by an {@link ExportJob}, so that the user can keep working meanwhile.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Exports all contact(s) to a CSV file on your Desktop. "
-            + "Parameters: f/FILENAME.csv\n"
-            + "Example: " + COMMAND_WORD + " f/contacts.csv";
+    public static final String SCOPE_ALL = "all";
+    public static final String SCOPE_FILTERED = "filtered";
+    public static final String SINCE_LAST = "last";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports all contact(s), or only the listed contact(s), to a file on your Desktop. "
+            + "Parameters: f/FILENAME [scope/" + SCOPE_ALL + "|" + SCOPE_FILTERED + "] [cols/COLUMN[,COLUMN]...] "
+            + "[fmt/csv|jsonl|vcf] [since/" + SINCE_LAST + "|DATE|DATE_TIME]\n"
+            + "Valid columns: name, phone, email, company, detail, tags\n"
+            + "Example: " + COMMAND_WORD + " f/contacts.csv scope/filtered cols/name,email fmt/csv\n"
+            + "Example: " + COMMAND_WORD + " f/changes.csv since/" + SINCE_LAST;
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d contact(s) to Desktop: %2$s in the background. "
+            + "Enter " + CancelCommand.COMMAND_WORD + " to stop.";
+    public static final String MESSAGE_STARTED_CHANGES = "Exporting %1$d changed contact(s) to Desktop: %2$s in the "
+            + "background. Enter " + CancelCommand.COMMAND_WORD + " to stop.";
     public static final String MESSAGE_SUCCESS = "Contacts exported successfully to Desktop: %s";
     public static final String MESSAGE_FAILURE = "Failed to export contacts: %s";
 
+    private static final String COMPRESSED_EXTENSION = ".gz";
+
     private final String userInputName;
+    private final boolean isFilteredOnly;
+    private final List<Column> columns;
+    private final Format format;
+    private final Since since;
 
     /**
-     * Save the parsed input as the .csv file name
+     * Save the parsed input as the .csv file name, to export every column of all contacts to.
      */
     public ExportCommand(String userInputName) {
-        requireNonNull(userInputName);
+        this(userInputName, false, List.of(Column.values()), Format.CSV);
+    }
+
+    /**
+     * Save the parsed input as the name of the file to export the {@code columns} of all contacts to in
+     * {@code format}, or only those of the contacts in the filtered list if {@code isFilteredOnly}.
+     */
+    public ExportCommand(String userInputName, boolean isFilteredOnly, List<Column> columns, Format format) {
+        this(userInputName, isFilteredOnly, columns, format, null);
+    }
+
+    /**
+     * Save the parsed input as the name of the file to export like
+     * {@link #ExportCommand(String, boolean, List, Format)} to, except that if {@code since} is not null, the contacts
+     * changed since then are exported instead, with how they changed.
+     */
+    public ExportCommand(String userInputName, boolean isFilteredOnly, List<Column> columns, Format format,
+            Since since) {
+        requireAllNonNull(userInputName, columns, format);
         this.userInputName = userInputName;
+        this.isFilteredOnly = isFilteredOnly;
+        this.columns = List.copyOf(columns);
+        this.format = format;
+        this.since = since;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        List<Person> contacts = model.getAddressBook().getPersonList();
 
         // Get the Desktop directory of the current user
         String desktopPath = System.getProperty("user.home") + File.separator + "Desktop" + File.separator;
@@ -56,58 +103,135 @@ public class ExportCommand extends Command {
         // Extract only the filename part, in case the user includes a path
         String filename = new File(userInputName).getName();
 
-        // Automatically add ".csv" if the user didn't specify an extension
-        if (!filename.toLowerCase().endsWith(".csv")) {
-            filename = filename + ".csv";
+        // Automatically add the extension of the format if the user didn't specify it
+        if (!filename.toLowerCase().endsWith(format.getExtension())) {
+            filename = filename + format.getExtension();
         }
 
-        // Build the full file path to Desktop
-        String fullPath = desktopPath + filename;
-
-        try (FileWriter writer = new FileWriter(fullPath)) {
-            // Write the CSV header row
-            writer.append("Name,Phone,Email,Company,Detail,Tags\n");
-
-            // Write one line per contact
-            for (Person p : contacts) {
-                String tags = p.getTags().stream()
-                        .map(tag -> tag.tagName)
-                        .collect(Collectors.joining(";"));
-
-                writer.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
-                        escapeCsv(p.getName().fullName),
-                        escapeCsv(p.getPhone().value),
-                        escapeCsv(p.getEmail().value),
-                        escapeCsv(p.getCompany().value),
-                        escapeCsv(p.getDetail().value),
-                        escapeCsv(tags)
-                ));
-            }
-
-            // Return success message
-            return new CommandResult(String.format(MESSAGE_SUCCESS, filename));
+        boolean isCompressed = model.getUserPrefs().isDataCompressed();
+        if (isCompressed) {
+            filename = filename + COMPRESSED_EXTENSION;
+        }
 
-        } catch (IOException e) {
-            // Return error message if file writing fails
-            return new CommandResult(String.format(MESSAGE_FAILURE, e.getMessage()));
+        Path path = Path.of(desktopPath, filename);
+        if (since != null) {
+            ExportJob job = createChangesJob(model.getChangeLog(), path, isCompressed);
+            return CommandResult.startingExport(String.format(MESSAGE_STARTED_CHANGES, job.getSize(), filename), job);
         }
+
+        // Write a snapshot of the contacts to the Desktop in the background
+        List<Person> persons = isFilteredOnly ? model.getFilteredPersonList() : model.getAddressBook().getPersonList();
+        ExportJob job = new ExportJob(persons, path, isCompressed, columns, format);
+        return CommandResult.startingExport(String.format(MESSAGE_STARTED, job.getSize(), filename), job);
     }
 
     /**
-     * Escapes quotation marks inside fields to ensure valid CSV formatting.
-     * Example:  Hello "World" -> Hello ""World""
+     * Returns a job that writes the contacts in {@code changeLog} changed since {@link #since} to {@code path}.
+     * If they are the changes since the last export, the job moves the export watermark up to the latest change once
+     * it succeeds, so that the next such export starts after it.
      */
-    private String escapeCsv(String input) {
-        if (input == null) {
-            return "";
+    private ExportJob createChangesJob(ChangeLog changeLog, Path path, boolean isCompressed) {
+        long sequence = changeLog.getSequence();
+        List<ChangeLog.Change> changes = since.isLastExport()
+                ? changeLog.getChangesSince(changeLog.getExportWatermark())
+                : changeLog.getChangesSince(since.getTime());
+        ExportJob job = ExportJob.forChanges(changes, path, isCompressed, columns, format);
+        if (since.isLastExport()) {
+            job.setSuccessAction(() -> changeLog.setExportWatermark(sequence));
         }
-        return input.replace("\"", "\"\"");
+        return job;
+    }
+
+    @Override
+    public boolean changesContactBook() {
+        return false;
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof ExportCommand
-                && userInputName.equals(((ExportCommand) other).userInputName));
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherCommand = (ExportCommand) other;
+        return userInputName.equals(otherCommand.userInputName)
+                && isFilteredOnly == otherCommand.isFilteredOnly
+                && columns.equals(otherCommand.columns)
+                && format == otherCommand.format
+                && Objects.equals(since, otherCommand.since);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("userInputName", userInputName)
+                .add("isFilteredOnly", isFilteredOnly)
+                .add("columns", columns)
+                .add("format", format)
+                .add("since", since)
+                .toString();
+    }
+
+    /**
+     * The point after which changed contacts are exported: the last export of changes, or a point in time.
+     */
+    public static class Since {
+
+        private final Instant time;
+
+        private Since(Instant time) {
+            this.time = time;
+        }
+
+        /**
+         * Returns the point at which changes were last exported.
+         */
+        public static Since lastExport() {
+            return new Since(null);
+        }
+
+        /**
+         * Returns the point {@code time}.
+         */
+        public static Since time(Instant time) {
+            requireNonNull(time);
+            return new Since(time);
+        }
+
+        public boolean isLastExport() {
+            return time == null;
+        }
+
+        /**
+         * Returns the point in time, which is null if this is the last export.
+         */
+        public Instant getTime() {
+            return time;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Since)) {
+                return false;
+            }
+            return Objects.equals(time, ((Since) other).time);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(time);
+        }
+
+        @Override
+        public String toString() {
+            return isLastExport() ? SINCE_LAST : time.toString();
+        }
     }
 }
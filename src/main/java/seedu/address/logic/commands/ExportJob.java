@@ -0,0 +1,609 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.ChangeLog.ChangeType;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a snapshot of the contacts to a file, which may take long enough that it should be run in the background.
+ * The snapshot cannot change while the file is written, so the contact book can be used meanwhile.
+ * <p>
+ * Only the chosen {@link Column}s are written, in one of the {@link Format}s. Contacts are written one at a time, so
+ * a large export takes no more memory than a small one. A job created {@link #forChanges} also writes how each contact
+ * changed, as the first column.
+ * <p>
+ * A job can be cancelled from any thread. It then stops after the contact it is writing and deletes the partial file,
+ * as it also does if writing fails.
+ */
+public class ExportJob {
+
+    public static final String MESSAGE_CANCELLED = "Export to Desktop: %s was cancelled, and the partial file deleted.";
+
+    /** The number of contacts written between progress reports. */
+    public static final int PROGRESS_INTERVAL = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportJob.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String TAG_SEPARATOR = ";";
+    private static final String CHANGE_HEADER = "Change";
+    private static final String CHANGE_KEYWORD = "change";
+
+    private final List<Person> persons;
+    private final Path path;
+    private final boolean isCompressed;
+    private final List<Column> columns;
+    private final Format format;
+    /** How each contact in {@code persons} changed, or null if the job does not export changes. */
+    private final List<ChangeType> changeTypes;
+    private volatile boolean isCancelled;
+    private volatile boolean isSucceeded;
+    private Runnable successAction;
+
+    /**
+     * Creates a job that writes every column of {@code persons} as CSV to the file at {@code path}, gzip-compressed
+     * if {@code isCompressed}. {@code persons} is copied, so later changes to it are not exported.
+     */
+    public ExportJob(List<Person> persons, Path path, boolean isCompressed) {
+        this(persons, path, isCompressed, List.of(Column.values()), Format.CSV);
+    }
+
+    /**
+     * Creates a job that writes the {@code columns} of {@code persons} in {@code format} to the file at {@code path},
+     * gzip-compressed if {@code isCompressed}. {@code persons} is copied, so later changes to it are not exported.
+     */
+    public ExportJob(List<Person> persons, Path path, boolean isCompressed, List<Column> columns, Format format) {
+        this(List.copyOf(persons), null, path, isCompressed, columns, format);
+    }
+
+    private ExportJob(List<Person> persons, List<ChangeType> changeTypes, Path path, boolean isCompressed,
+            List<Column> columns, Format format) {
+        requireAllNonNull(persons, path, columns, format);
+        this.persons = persons;
+        this.changeTypes = changeTypes;
+        this.path = path;
+        this.isCompressed = isCompressed;
+        this.columns = List.copyOf(columns);
+        this.format = format;
+    }
+
+    /**
+     * Creates a job that writes how each contact in {@code changes} changed, followed by the {@code columns} of its
+     * details, in {@code format} to the file at {@code path}, gzip-compressed if {@code isCompressed}.
+     */
+    public static ExportJob forChanges(List<Change> changes, Path path, boolean isCompressed, List<Column> columns,
+            Format format) {
+        requireAllNonNull(changes);
+        List<Person> persons = new ArrayList<>(changes.size());
+        List<ChangeType> changeTypes = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            persons.add(change.getPerson());
+            changeTypes.add(change.getType());
+        }
+        return new ExportJob(persons, changeTypes, path, isCompressed, columns, format);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getFileName() {
+        return path.getFileName().toString();
+    }
+
+    /**
+     * Returns the number of contacts that the job exports.
+     */
+    public int getSize() {
+        return persons.size();
+    }
+
+    /**
+     * Stops the job after the contact it is writing. Has no effect if the job has already ended.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Returns true if the job wrote every contact to the file.
+     */
+    public boolean isSucceeded() {
+        return isSucceeded;
+    }
+
+    /**
+     * Returns true if the job exports how each contact changed.
+     */
+    public boolean isExportingChanges() {
+        return changeTypes != null;
+    }
+
+    /**
+     * Sets an action to run once the job has written every contact, on the thread that the job is started from.
+     */
+    public void setSuccessAction(Runnable successAction) {
+        this.successAction = successAction;
+    }
+
+    public Optional<Runnable> getSuccessAction() {
+        return Optional.ofNullable(successAction);
+    }
+
+    /**
+     * Writes the file, passing the number of contacts written so far to {@code progress} every
+     * {@link #PROGRESS_INTERVAL} contacts, and returns a message describing how the export ended.
+     */
+    public String run(IntConsumer progress) {
+        Writer out;
+        try {
+            out = openWriter();
+        } catch (IOException e) {
+            return String.format(ExportCommand.MESSAGE_FAILURE, e.getMessage());
+        }
+
+        try (out) {
+            if (!writePersons(createPersonWriter(out), progress)) {
+                out.close();
+                deletePartialFile();
+                logger.info("Export to " + path + " cancelled");
+                return String.format(MESSAGE_CANCELLED, getFileName());
+            }
+        } catch (IOException e) {
+            logger.warning("Export to " + path + " failed: " + StringUtil.getDetails(e));
+            deletePartialFile();
+            return String.format(ExportCommand.MESSAGE_FAILURE, e.getMessage());
+        }
+        isSucceeded = true;
+        logger.info("Exported " + persons.size() + " contacts to " + path + " as " + format.getKeyword());
+        return String.format(ExportCommand.MESSAGE_SUCCESS, getFileName());
+    }
+
+    private void deletePartialFile() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warning("Failed to delete partial export " + path + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes every contact through {@code writer}. Returns false if the job was cancelled before every contact was
+     * written.
+     */
+    private boolean writePersons(PersonWriter writer, IntConsumer progress) throws IOException {
+        writer.writeHeader();
+        int written = 0;
+        for (Person p : persons) {
+            if (isCancelled) {
+                return false;
+            }
+            writer.write(p, changeTypes == null ? null : changeTypes.get(written));
+            written++;
+            if (written % PROGRESS_INTERVAL == 0) {
+                progress.accept(written);
+            }
+        }
+        writer.flush();
+        return true;
+    }
+
+    private PersonWriter createPersonWriter(Writer out) throws IOException {
+        switch (format) {
+        case JSONL:
+            return new JsonLinesPersonWriter(out, columns, isExportingChanges());
+        case VCF:
+            return new VCardPersonWriter(out, columns);
+        default:
+            return new CsvPersonWriter(out, columns, isExportingChanges());
+        }
+    }
+
+    /**
+     * Opens the file to be written, replacing any file already at the path.
+     */
+    Writer openWriter() throws IOException {
+        OutputStream out = Files.newOutputStream(path);
+        if (isCompressed) {
+            out = CompressionUtil.compress(out);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the value of {@code column}, which must not be {@link Column#TAGS}, for {@code person}.
+     */
+    private static String getValue(Person person, Column column) {
+        switch (column) {
+        case NAME:
+            return person.getName().fullName;
+        case PHONE:
+            return person.getPhone().value;
+        case EMAIL:
+            return person.getEmail().value;
+        case COMPANY:
+            return person.getCompany().value;
+        case DETAIL:
+            return person.getDetail().value;
+        default:
+            throw new IllegalArgumentException("Tags have no single value");
+        }
+    }
+
+    /**
+     * A column of contact details that can be exported. Columns are written in the order they are listed in here.
+     */
+    public enum Column {
+        NAME("name", "Name"),
+        PHONE("phone", "Phone"),
+        EMAIL("email", "Email"),
+        COMPANY("company", "Company"),
+        DETAIL("detail", "Detail"),
+        TAGS("tags", "Tags");
+
+        private final String keyword;
+        private final String header;
+
+        Column(String keyword, String header) {
+            this.keyword = keyword;
+            this.header = header;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        /**
+         * Returns the column named {@code keyword}, ignoring case, if there is one.
+         */
+        public static Optional<Column> fromKeyword(String keyword) {
+            return Stream.of(values()).filter(column -> column.keyword.equalsIgnoreCase(keyword)).findFirst();
+        }
+    }
+
+    /**
+     * A file format that contacts can be exported in.
+     */
+    public enum Format {
+        /** Comma-separated values following RFC 4180, with a header row. */
+        CSV("csv", ".csv"),
+        /** JSON Lines, with one JSON object per contact. */
+        JSONL("jsonl", ".jsonl"),
+        /** vCard 3.0, which address books and phones can import. */
+        VCF("vcf", ".vcf");
+
+        private final String keyword;
+        private final String extension;
+
+        Format(String keyword, String extension) {
+            this.keyword = keyword;
+            this.extension = extension;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns the format named {@code keyword}, ignoring case, if there is one.
+         */
+        public static Optional<Format> fromKeyword(String keyword) {
+            return Stream.of(values()).filter(format -> format.keyword.equalsIgnoreCase(keyword)).findFirst();
+        }
+    }
+
+    /**
+     * Writes contacts to a file in one format.
+     */
+    private interface PersonWriter {
+        void writeHeader() throws IOException;
+
+        /**
+         * Writes {@code person}, which changed as {@code changeType} if the job exports changes, or else null.
+         */
+        void write(Person person, ChangeType changeType) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * Writes contacts as rows of a CSV file through a {@link CsvWriter}, reusing one builder for the tags of every
+     * contact.
+     */
+    private static class CsvPersonWriter implements PersonWriter {
+
+        private final CsvWriter writer;
+        private final List<Column> columns;
+        private final boolean hasChangeColumn;
+        private final StringBuilder tags = new StringBuilder();
+
+        CsvPersonWriter(Writer out, List<Column> columns, boolean hasChangeColumn) {
+            this.writer = new CsvWriter(out);
+            this.columns = columns;
+            this.hasChangeColumn = hasChangeColumn;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            if (hasChangeColumn) {
+                writer.writeField(CHANGE_HEADER);
+            }
+            for (Column column : columns) {
+                writer.writeField(column.getHeader());
+            }
+            writer.endRow();
+        }
+
+        @Override
+        public void write(Person person, ChangeType changeType) throws IOException {
+            if (hasChangeColumn) {
+                writer.writeField(changeType.getKeyword());
+            }
+            for (Column column : columns) {
+                if (column != Column.TAGS) {
+                    writer.writeField(getValue(person, column));
+                    continue;
+                }
+                tags.setLength(0);
+                for (Tag tag : person.getTags()) {
+                    if (tags.length() > 0) {
+                        tags.append(TAG_SEPARATOR);
+                    }
+                    tags.append(tag.tagName);
+                }
+                writer.writeField(tags);
+            }
+            writer.endRow();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes contacts as JSON objects, one per line, keyed by column keyword. Tags are written as an array.
+     * How a contact changed is written under the "change" key.
+     */
+    private static class JsonLinesPersonWriter implements PersonWriter {
+
+        private final Writer out;
+        private final JsonGenerator generator;
+        private final List<Column> columns;
+        private final boolean hasChangeColumn;
+
+        JsonLinesPersonWriter(Writer out, List<Column> columns, boolean hasChangeColumn) throws IOException {
+            this.out = out;
+            this.generator = JsonUtil.createCompactGenerator(out);
+            this.columns = columns;
+            this.hasChangeColumn = hasChangeColumn;
+        }
+
+        @Override
+        public void writeHeader() {}
+
+        @Override
+        public void write(Person person, ChangeType changeType) throws IOException {
+            generator.writeStartObject();
+            if (hasChangeColumn) {
+                generator.writeStringField(CHANGE_KEYWORD, changeType.getKeyword());
+            }
+            for (Column column : columns) {
+                if (column != Column.TAGS) {
+                    generator.writeStringField(column.getKeyword(), getValue(person, column));
+                    continue;
+                }
+                generator.writeArrayFieldStart(column.getKeyword());
+                for (Tag tag : person.getTags()) {
+                    generator.writeString(tag.tagName);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+            generator.flush();
+            out.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * Writes contacts as vCard 3.0 cards. The name is always written, as every card needs one, and details that are
+     * empty are left out. How a contact changed is written as an extended property.
+     * <p>
+     * The last word of the name is written as the family name and the words before it as the given names. Lines
+     * longer than {@value #MAX_LINE_OCTETS} octets are folded, as RFC 2425 requires.
+     */
+    private static class VCardPersonWriter implements PersonWriter {
+
+        private static final String LINE_SEPARATOR = "\r\n";
+        private static final String FOLD = LINE_SEPARATOR + " ";
+        private static final int MAX_LINE_OCTETS = 75;
+        private static final String CHANGE_PROPERTY = "X-FASTCARD-CHANGE";
+
+        private final Writer out;
+        private final List<Column> columns;
+        private final StringBuilder card = new StringBuilder();
+        private final StringBuilder line = new StringBuilder();
+
+        VCardPersonWriter(Writer out, List<Column> columns) {
+            this.out = out;
+            this.columns = columns;
+        }
+
+        @Override
+        public void writeHeader() {}
+
+        @Override
+        public void write(Person person, ChangeType changeType) throws IOException {
+            card.setLength(0);
+            card.append("BEGIN:VCARD").append(LINE_SEPARATOR);
+            card.append("VERSION:3.0").append(LINE_SEPARATOR);
+            if (changeType != null) {
+                appendProperty(CHANGE_PROPERTY, changeType.getKeyword());
+            }
+            String fullName = person.getName().fullName;
+            appendProperty("FN", fullName);
+            appendStructuredName(fullName);
+            for (Column column : columns) {
+                switch (column) {
+                case PHONE:
+                    appendProperty("TEL", person.getPhone().value);
+                    break;
+                case EMAIL:
+                    appendProperty("EMAIL", person.getEmail().value);
+                    break;
+                case COMPANY:
+                    appendProperty("ORG", person.getCompany().value);
+                    break;
+                case DETAIL:
+                    appendProperty("NOTE", person.getDetail().value);
+                    break;
+                case TAGS:
+                    appendCategories(person);
+                    break;
+                default:
+                    break;
+                }
+            }
+            card.append("END:VCARD").append(LINE_SEPARATOR);
+            out.append(card);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private void appendProperty(String name, String value) {
+            if (value.isEmpty()) {
+                return;
+            }
+            line.append(name).append(':');
+            appendEscaped(value);
+            endLine();
+        }
+
+        /**
+         * Appends the N property of {@code fullName}, whose last word is the family name and whose other words are
+         * the given names.
+         */
+        private void appendStructuredName(String fullName) {
+            String trimmed = fullName.trim();
+            int lastSpace = trimmed.lastIndexOf(' ');
+            line.append("N:");
+            appendEscaped(trimmed.substring(lastSpace + 1));
+            line.append(';');
+            if (lastSpace >= 0) {
+                appendEscaped(trimmed.substring(0, lastSpace).trim());
+            }
+            line.append(";;;");
+            endLine();
+        }
+
+        private void appendCategories(Person person) {
+            if (person.getTags().isEmpty()) {
+                return;
+            }
+            line.append("CATEGORIES:");
+            boolean isFirst = true;
+            for (Tag tag : person.getTags()) {
+                if (!isFirst) {
+                    line.append(',');
+                }
+                isFirst = false;
+                appendEscaped(tag.tagName);
+            }
+            endLine();
+        }
+
+        /**
+         * Appends {@code value} to the current line with the characters that vCard text values reserve escaped.
+         */
+        private void appendEscaped(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                case '\\':
+                case ',':
+                case ';':
+                    line.append('\\').append(c);
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    line.append(c);
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Appends the current line to the card, folded so that no line is longer than {@link #MAX_LINE_OCTETS} octets
+         * in UTF-8. Lines are only folded between characters, never inside one.
+         */
+        private void endLine() {
+            int octets = 0;
+            int i = 0;
+            while (i < line.length()) {
+                int codePoint = line.codePointAt(i);
+                int charCount = Character.charCount(codePoint);
+                int codePointOctets = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : charCount == 1 ? 3 : 4;
+                if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                    card.append(FOLD);
+                    // the space starting the continued line counts towards its length
+                    octets = 1;
+                }
+                card.append(line, i, i + charCount);
+                octets += codePointOctets;
+                i += charCount;
+            }
+            card.append(LINE_SEPARATOR);
+            line.setLength(0);
+        }
+    }
+}
@@ -53,6 +53,11 @@ public class FilterCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, filteredListSize));
     }
 
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
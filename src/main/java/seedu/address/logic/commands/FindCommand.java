@@ -35,6 +35,11 @@ public class FindCommand extends Command {
                 model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -18,4 +18,14 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false, false, -1);
     }
+
+    @Override
+    public boolean needsLoadedContactBook() {
+        return false;
+    }
+
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
 }
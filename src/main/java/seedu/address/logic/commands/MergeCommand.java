@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Detail;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Merges one or more groups of duplicate contacts, identified by the index shown in the last person listing.
+ * The first contact of each group is kept and the remaining contacts of the group are folded into it.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Merges groups of duplicate contacts identified by their displayed index.\n"
+            + "The first contact of each group is kept. Its missing email, company and detail are filled in "
+            + "from the other contacts, their tags are combined, and the other contacts are deleted.\n"
+            + "Parameters: INDEX INDEX [MORE_INDEXES]... [; INDEX INDEX [MORE_INDEXES]...]...\n"
+            + "Example: " + COMMAND_WORD + " 1 4\n"
+            + "Example: " + COMMAND_WORD + " 1 4; 2 7 9";
+
+    public static final String MESSAGE_MERGE_SUCCESS = "Merged %1$d contact(s) into %2$d contact(s).";
+    public static final String MESSAGE_DUPLICATE_INDEX = "Each contact can only appear once in a merge.";
+
+    private static final String PLACEHOLDER_EMAIL = "unknown@example.com";
+    private static final String PLACEHOLDER_COMPANY = "N/A";
+
+    private final List<List<Index>> clusters;
+
+    /**
+     * Creates a {@code MergeCommand} that merges each group of {@code clusters} into the first contact of the group.
+     */
+    public MergeCommand(List<List<Index>> clusters) {
+        requireNonNull(clusters);
+        this.clusters = clusters;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        Set<Integer> seen = new HashSet<>();
+        for (List<Index> cluster : clusters) {
+            for (Index index : cluster) {
+                if (index.getZeroBased() >= lastShownList.size()) {
+                    throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+                }
+                if (!seen.add(index.getZeroBased())) {
+                    throw new CommandException(MESSAGE_DUPLICATE_INDEX);
+                }
+            }
+        }
+
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        List<Person> toRemove = new ArrayList<>();
+        for (List<Index> cluster : clusters) {
+            Person primary = lastShownList.get(cluster.get(0).getZeroBased());
+            List<Person> duplicates = new ArrayList<>();
+            for (Index index : cluster.subList(1, cluster.size())) {
+                duplicates.add(lastShownList.get(index.getZeroBased()));
+            }
+
+            Person mergedPerson = createMergedPerson(primary, duplicates);
+            if (!mergedPerson.equals(primary)) {
+                replacements.put(primary, mergedPerson);
+            }
+            toRemove.addAll(duplicates);
+        }
+
+        Person focused = model.getFocusedPerson().get();
+        model.mergePersons(replacements, toRemove);
+        if (focused != null && (replacements.containsKey(focused) || toRemove.contains(focused))) {
+            model.updateFocusedPerson(-1);
+        }
+
+        return new CommandResult(String.format(MESSAGE_MERGE_SUCCESS,
+                toRemove.size() + clusters.size(), clusters.size()));
+    }
+
+    /**
+     * Creates and returns a {@code Person} that keeps the name and phone of {@code primary}.
+     * Placeholder email, company and empty detail are replaced by the first real value found among
+     * {@code duplicates}, and the tags of all contacts are combined.
+     */
+    private static Person createMergedPerson(Person primary, List<Person> duplicates) {
+        assert primary != null;
+
+        Email email = primary.getEmail();
+        Company company = primary.getCompany();
+        Detail detail = primary.getDetail();
+        Set<Tag> tags = new HashSet<>(primary.getTags());
+
+        for (Person duplicate : duplicates) {
+            if (PLACEHOLDER_EMAIL.equals(email.value) && !PLACEHOLDER_EMAIL.equals(duplicate.getEmail().value)) {
+                email = duplicate.getEmail();
+            }
+            if (PLACEHOLDER_COMPANY.equals(company.value)
+                    && !PLACEHOLDER_COMPANY.equals(duplicate.getCompany().value)) {
+                company = duplicate.getCompany();
+            }
+            if (detail.isEmpty() && !duplicate.getDetail().isEmpty()) {
+                detail = duplicate.getDetail();
+            }
+            tags.addAll(duplicate.getTags());
+        }
+
+        return new Person(primary.getName(), primary.getPhone(), email, company, detail, tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeCommand)) {
+            return false;
+        }
+
+        MergeCommand otherMergeCommand = (MergeCommand) other;
+        return clusters.equals(otherMergeCommand.clusters);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clusters", clusters)
+                .toString();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.storage.BackupStore;
+
+/**
+ * Lists the backups of the contact book, or replaces the contact book with one of them.
+ * The contact book is backed up before it is replaced, so a restore can itself be undone.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the backups of your contacts, "
+            + "or replaces all contact(s) with those in the backup given.\n"
+            + "Parameters: [BACKUP_ID]\n"
+            + "Example: " + COMMAND_WORD + " 20250101-093000";
+
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups yet. Use "
+            + BackupCommand.COMMAND_WORD + " to create one.";
+    public static final String MESSAGE_BACKUP_LIST = "Backups, most recent first:%s";
+    public static final String MESSAGE_BACKUP_ENTRY = "\n%1$s: %2$d contact(s)";
+    public static final String MESSAGE_SUCCESS = "Restored %1$d contact(s) from backup %2$s. "
+            + "Your contacts before restoring were backed up as %3$s.";
+    public static final String MESSAGE_FAILURE = "Failed to restore backup: %s";
+
+    private final String backupId;
+
+    /**
+     * Creates a {@code RestoreCommand} that lists the backups.
+     */
+    public RestoreCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a {@code RestoreCommand} that restores the backup {@code backupId}, or lists the backups if it is null.
+     */
+    public RestoreCommand(String backupId) {
+        this.backupId = backupId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        BackupStore backupStore = new BackupStore(BackupStore.getBackupDirectory(model.getAddressBookFilePath()));
+        try {
+            if (backupId == null) {
+                return new CommandResult(listBackups(backupStore.listBackups()));
+            }
+
+            AddressBook restored = backupStore.restore(backupId);
+            BackupStore.Backup previous = backupStore.createBackup(model.getAddressBook(), Instant.now());
+            backupStore.prune(model.getUserPrefs().getBackupRetentionCount());
+            model.updateFocusedPerson(-1);
+            model.setAddressBook(restored);
+            return new CommandResult(String.format(MESSAGE_SUCCESS,
+                    restored.getPersonList().size(), backupId, previous.getId()));
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()), e);
+        }
+    }
+
+    private static String listBackups(List<BackupStore.Backup> backups) {
+        if (backups.isEmpty()) {
+            return MESSAGE_NO_BACKUPS;
+        }
+        StringBuilder entries = new StringBuilder();
+        for (BackupStore.Backup backup : backups) {
+            entries.append(String.format(MESSAGE_BACKUP_ENTRY, backup.getId(), backup.getPersonCount()));
+        }
+        return String.format(MESSAGE_BACKUP_LIST, entries);
+    }
+
+    @Override
+    public boolean changesContactBook() {
+        return backupId != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return Objects.equals(backupId, otherRestoreCommand.backupId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backupId", backupId)
+                .toString();
+    }
+}
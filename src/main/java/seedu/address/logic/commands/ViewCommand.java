@@ -47,6 +47,11 @@ public class ViewCommand extends Command {
         }
     }
 
+    @Override
+    public boolean changesContactBook() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -17,6 +17,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_FIELD = new Prefix("f/");
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
     public static final Prefix PREFIX_FILE_PATH = new Prefix("f/");
+    public static final Prefix PREFIX_SCOPE = new Prefix("scope/");
+    public static final Prefix PREFIX_COLUMNS = new Prefix("cols/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("fmt/");
+    public static final Prefix PREFIX_SINCE = new Prefix("since/");
 
 
 }
@@ -1,24 +1,56 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMNS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCOPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SINCE;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportJob.Column;
+import seedu.address.logic.commands.ExportJob.Format;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new ExportCommand object.
  * Rules enforced:
  *  All paths are ignored — only the filename part is used.
- *  Slashes ("/", "\\" and ".") are not allowed.
+ *  Slashes ("/" and "\\") are not allowed.
  *  Multiple spaces are normalized into a single space.
- *  Only safe filename characters are allowed (letters, digits, spaces, '_', '-', '()')
- *
+ *  Only safe filename characters are allowed (letters, digits, spaces, '.', '_', '-', '()')
+ *  The optional scope, columns and format default to all contacts, every column and CSV.
+ *  The optional since is "last", or a date or date and time in ISO 8601 format, taken in the system time zone unless
+ *  it ends with a zone offset. It cannot be given with the filtered scope.
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
+    public static final String MESSAGE_INVALID_SCOPE = "Invalid scope: use " + ExportCommand.SCOPE_ALL + " or "
+            + ExportCommand.SCOPE_FILTERED + ".";
+    public static final String MESSAGE_INVALID_COLUMN = "Invalid column \"%s\": use name, phone, email, company, "
+            + "detail or tags, separated by commas.";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column \"%s\" is given more than once.";
+    public static final String MESSAGE_INVALID_FORMAT = "Invalid format: use csv, jsonl or vcf.";
+    public static final String MESSAGE_INVALID_SINCE = "Invalid since: use " + ExportCommand.SINCE_LAST
+            + ", a date such as 2024-03-01, or a date and time such as 2024-03-01T09:30.";
+    public static final String MESSAGE_SINCE_WITH_FILTERED = "Changes since a point are exported for all contacts, "
+            + "so since/ cannot be used with scope/" + ExportCommand.SCOPE_FILTERED + ".";
+
     @Override
     public ExportCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH, PREFIX_SCOPE,
+                PREFIX_COLUMNS, PREFIX_FORMAT, PREFIX_SINCE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SCOPE, PREFIX_COLUMNS, PREFIX_FORMAT, PREFIX_SINCE);
 
         // Check the uniqueness of prefix
         if (argMultimap.getAllValues(PREFIX_FILE_PATH).size() > 1) {
@@ -42,9 +74,9 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         }
 
         // Validate filename characters (cross-platform safe)
-        if (!fileName.matches("^[a-zA-Z0-9_()\\-\\s]+$")) {
+        if (!fileName.matches("^[a-zA-Z0-9._()\\-\\s]+$")) {
             throw new ParseException("Invalid file name: only letters, numbers, "
-                    + "spaces, '_', '-', and '()' are allowed.");
+                    + "spaces, '.', '_', '-', and '()' are allowed.");
         }
 
         // Disallow path separators
@@ -52,6 +84,82 @@ public class ExportCommandParser implements Parser<ExportCommand> {
             throw new ParseException("Invalid file name: '/' and '\\' are not allowed in file names.");
         }
 
-        return new ExportCommand(fileName);
+        boolean isFilteredOnly = parseScope(argMultimap.getValue(PREFIX_SCOPE));
+        ExportCommand.Since since = parseSince(argMultimap.getValue(PREFIX_SINCE));
+        if (isFilteredOnly && since != null) {
+            throw new ParseException(MESSAGE_SINCE_WITH_FILTERED);
+        }
+        return new ExportCommand(fileName, isFilteredOnly, parseColumns(argMultimap.getValue(PREFIX_COLUMNS)),
+                parseFormat(argMultimap.getValue(PREFIX_FORMAT)), since);
+    }
+
+    /**
+     * Returns true if {@code scope} is the filtered list, or false if it is absent or all contacts.
+     */
+    private static boolean parseScope(Optional<String> scope) throws ParseException {
+        if (scope.isEmpty() || scope.get().trim().equalsIgnoreCase(ExportCommand.SCOPE_ALL)) {
+            return false;
+        }
+        if (scope.get().trim().equalsIgnoreCase(ExportCommand.SCOPE_FILTERED)) {
+            return true;
+        }
+        throw new ParseException(MESSAGE_INVALID_SCOPE);
+    }
+
+    /**
+     * Returns the comma-separated columns in {@code columns}, in the order given, or every column if it is absent.
+     */
+    private static List<Column> parseColumns(Optional<String> columns) throws ParseException {
+        if (columns.isEmpty()) {
+            return List.of(Column.values());
+        }
+        List<Column> parsed = new ArrayList<>();
+        for (String keyword : columns.get().split(",", -1)) {
+            String trimmed = keyword.trim();
+            Column column = Column.fromKeyword(trimmed)
+                    .orElseThrow(() -> new ParseException(String.format(MESSAGE_INVALID_COLUMN, trimmed)));
+            if (parsed.contains(column)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, trimmed));
+            }
+            parsed.add(column);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the format named by {@code format}, or CSV if it is absent.
+     */
+    private static Format parseFormat(Optional<String> format) throws ParseException {
+        if (format.isEmpty()) {
+            return Format.CSV;
+        }
+        return Format.fromKeyword(format.get().trim()).orElseThrow(() -> new ParseException(MESSAGE_INVALID_FORMAT));
+    }
+
+    /**
+     * Returns the point after which changes are exported in {@code since}, or null if it is absent.
+     */
+    private static ExportCommand.Since parseSince(Optional<String> since) throws ParseException {
+        if (since.isEmpty()) {
+            return null;
+        }
+        String trimmed = since.get().trim();
+        if (trimmed.equalsIgnoreCase(ExportCommand.SINCE_LAST)) {
+            return ExportCommand.Since.lastExport();
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        try {
+            if (!trimmed.contains("T")) {
+                return ExportCommand.Since.time(LocalDate.parse(trimmed).atStartOfDay(zone).toInstant());
+            }
+            TemporalAccessor time = DateTimeFormatter.ISO_DATE_TIME.parseBest(trimmed, OffsetDateTime::from,
+                    LocalDateTime::from);
+            if (time instanceof OffsetDateTime) {
+                return ExportCommand.Since.time(((OffsetDateTime) time).toInstant());
+            }
+            return ExportCommand.Since.time(((LocalDateTime) time).atZone(zone).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_SINCE);
+        }
     }
 }
@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    private static final String CLUSTER_SEPARATOR = ";";
+    private static final String INDEX_SEPARATOR_REGEX = "[\\s,]+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * Groups are separated by {@code ;} and the indexes within a group by spaces or commas.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+
+        List<List<Index>> clusters = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (String group : trimmedArgs.split(CLUSTER_SEPARATOR)) {
+            String trimmedGroup = group.trim();
+            if (trimmedGroup.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = trimmedGroup.split(INDEX_SEPARATOR_REGEX);
+            if (tokens.length < 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+            }
+
+            List<Index> cluster = new ArrayList<>();
+            for (String token : tokens) {
+                Index index = parseIndex(token);
+                if (!seen.add(index.getZeroBased())) {
+                    throw new ParseException(MergeCommand.MESSAGE_DUPLICATE_INDEX);
+                }
+                cluster.add(index);
+            }
+            clusters.add(cluster);
+        }
+
+        if (clusters.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+        return new MergeCommand(clusters);
+    }
+
+    private Index parseIndex(String token) throws ParseException {
+        try {
+            return ParserUtil.parseIndex(token);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -95,6 +98,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Replaces each key of {@code replacements} with its mapped person and removes every person in
+     * {@code toRemove} as a single change to the contact book.
+     * All targets must exist in the contact book.
+     */
+    public void replaceAndRemovePersons(Map<Person, Person> replacements, Collection<Person> toRemove) {
+        persons.replaceAndRemove(replacements, toRemove);
+    }
+
+    /**
+     * Applies {@code mutations} to this contact book as a single change.
+     * Listeners of {@link #getPersonList()} are notified once, after {@code mutations} completes. If
+     * {@code mutations} throws, none of its changes are applied and the exception is rethrown.
+     */
+    public void batch(Consumer<? super AddressBook> mutations) {
+        requireNonNull(mutations);
+        persons.beginBatch();
+        boolean isSuccessful = false;
+        try {
+            mutations.accept(this);
+            isSuccessful = true;
+        } finally {
+            persons.endBatch(isSuccessful);
+        }
+    }
+
     /**
      * Sorts the contact(s) in the contact book based on the given comparator.
      * @param comparator Comparator to sort the contact book.
@@ -0,0 +1,426 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Records when each contact was last added, edited or deleted, so that the contacts changed since a point in time
+ * can be exported without exporting the whole contact book.
+ * <p>
+ * Contacts are told apart by {@link Person#getIdentityKey()}. Only the latest change to each contact is kept, and a
+ * deleted contact is kept as a tombstone holding its last details. Every change is numbered by a sequence that only
+ * increases, which is what the watermark of the last incremental export refers to. Changes at or below the
+ * watermark have been exported and are dropped when it moves.
+ */
+public class ChangeLog {
+
+    /** Sequence before any change was recorded. */
+    public static final long NO_SEQUENCE = 0;
+
+    private final Clock clock;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long sequence = NO_SEQUENCE;
+    private long exportWatermark = NO_SEQUENCE;
+
+    public ChangeLog() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates an empty {@code ChangeLog} that takes the time of changes from {@code clock}.
+     */
+    public ChangeLog(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a {@code ChangeLog} with the given latest {@code sequence}, {@code exportWatermark} and
+     * {@code entries}, as read from storage.
+     */
+    public ChangeLog(long sequence, long exportWatermark, Collection<Entry> entries) {
+        this();
+        requireNonNull(entries);
+        this.sequence = sequence;
+        this.exportWatermark = exportWatermark;
+        entries.forEach(entry -> this.entries.put(entry.getPerson().getIdentityKey(), entry));
+    }
+
+    /**
+     * Creates a {@code ChangeLog} using the changes in {@code toBeCopied}.
+     */
+    public ChangeLog(ChangeLog toBeCopied) {
+        this(toBeCopied.clock);
+        resetData(toBeCopied);
+    }
+
+    /**
+     * Replaces the contents of this {@code ChangeLog} with those of {@code newData}.
+     */
+    public void resetData(ChangeLog newData) {
+        requireNonNull(newData);
+        entries.clear();
+        entries.putAll(newData.entries);
+        sequence = newData.sequence;
+        exportWatermark = newData.exportWatermark;
+    }
+
+    /**
+     * Records the persons that {@code change} to the person list added, edited or removed.
+     * Persons that were only moved, or removed and added back unchanged, are not recorded.
+     */
+    public void record(ListChangeListener.Change<? extends Person> change) {
+        requireNonNull(change);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        record(removed, added);
+    }
+
+    /**
+     * Records that {@code removed} were taken out of the person list and {@code added} were put in, as one change.
+     * A person in both with the same identity is recorded as edited, unless its details are unchanged.
+     */
+    public void record(Collection<? extends Person> removed, Collection<? extends Person> added) {
+        requireAllNonNull(removed, added);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        Map<String, Person> removedByKey = new HashMap<>();
+        removed.forEach(person -> removedByKey.put(person.getIdentityKey(), person));
+
+        // Kept to the millisecond, as stored
+        Instant now = clock.instant().truncatedTo(ChronoUnit.MILLIS);
+        for (Person person : added) {
+            String key = person.getIdentityKey();
+            Person previous = removedByKey.remove(key);
+            if (previous == null) {
+                sequence++;
+                entries.put(key, new Entry(person, false, sequence, now, sequence, now));
+            } else if (!previous.equals(person)) {
+                putChange(key, person, false, now);
+            }
+        }
+        removedByKey.forEach((key, person) -> putChange(key, person, true, now));
+    }
+
+    /**
+     * Records the latest change to the contact with identity {@code key}, keeping when it was added.
+     */
+    private void putChange(String key, Person person, boolean isDeleted, Instant now) {
+        sequence++;
+        Entry previous = entries.get(key);
+        if (previous == null || previous.isDeleted()) {
+            entries.put(key, new Entry(person, isDeleted, sequence, now, NO_SEQUENCE, null));
+        } else {
+            entries.put(key, new Entry(person, isDeleted, sequence, now, previous.getAddedSequence(),
+                    previous.getAddedTime()));
+        }
+    }
+
+    /**
+     * Returns the sequence of the latest change recorded.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence of the latest change included in the last export of changes since the last export.
+     */
+    public long getExportWatermark() {
+        return exportWatermark;
+    }
+
+    /**
+     * Moves the watermark of the last export of changes up to {@code exportWatermark}, dropping the changes at or
+     * below it, which that export included.
+     */
+    public void setExportWatermark(long exportWatermark) {
+        this.exportWatermark = exportWatermark;
+        entries.values().removeIf(entry -> entry.getSequence() <= exportWatermark);
+    }
+
+    /**
+     * Records a change for every contact whose latest change disagrees with {@code persons}, the contents of the
+     * contact book as loaded, so that changes lost when the contact book was not saved after its change log are
+     * exported again as they are now.
+     */
+    public void reconcile(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<String, Person> personsByKey = new HashMap<>();
+        persons.forEach(person -> personsByKey.put(person.getIdentityKey(), person));
+
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        for (Entry entry : new ArrayList<>(entries.values())) {
+            Person person = personsByKey.get(entry.getPerson().getIdentityKey());
+            if (entry.isDeleted() && person != null) {
+                added.add(person);
+            } else if (!entry.isDeleted() && person == null) {
+                removed.add(entry.getPerson());
+            } else if (!entry.isDeleted() && !entry.getPerson().equals(person)) {
+                removed.add(entry.getPerson());
+                added.add(person);
+            }
+        }
+        record(removed, added);
+    }
+
+    /**
+     * Returns the latest change recorded for every contact, including deleted ones.
+     */
+    public Collection<Entry> getEntries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Returns the contacts changed after the change numbered {@code sequence}, in the order they were last changed.
+     */
+    public List<Change> getChangesSince(long sequence) {
+        return getChangesSince(entry -> entry.getSequence() > sequence,
+                entry -> entry.getAddedSequence() > sequence);
+    }
+
+    /**
+     * Returns the contacts changed after {@code time}, in the order they were last changed.
+     */
+    public List<Change> getChangesSince(Instant time) {
+        requireNonNull(time);
+        return getChangesSince(entry -> entry.getTime().isAfter(time),
+                entry -> entry.getAddedTime() != null && entry.getAddedTime().isAfter(time));
+    }
+
+    /**
+     * Returns the contacts whose entries are {@code changedSince}. A contact is reported as added if it was also
+     * {@code addedSince}, and left out if it was added and deleted since.
+     */
+    private List<Change> getChangesSince(Predicate<Entry> changedSince, Predicate<Entry> addedSince) {
+        List<Change> changes = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (!changedSince.test(entry)) {
+                continue;
+            }
+            boolean isNew = addedSince.test(entry);
+            if (entry.isDeleted() && isNew) {
+                continue;
+            }
+            ChangeType type = entry.isDeleted() ? ChangeType.DELETED : isNew ? ChangeType.ADDED : ChangeType.EDITED;
+            changes.add(new Change(entry.getPerson(), type, entry.getSequence()));
+        }
+        changes.sort(Comparator.comparingLong(Change::getSequence));
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeLog)) {
+            return false;
+        }
+
+        ChangeLog otherChangeLog = (ChangeLog) other;
+        return sequence == otherChangeLog.sequence
+                && exportWatermark == otherChangeLog.exportWatermark
+                && entries.equals(otherChangeLog.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, exportWatermark, entries);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sequence", sequence)
+                .add("exportWatermark", exportWatermark)
+                .add("entries", entries.size())
+                .toString();
+    }
+
+    /**
+     * How a contact changed.
+     */
+    public enum ChangeType {
+        ADDED("added"),
+        EDITED("edited"),
+        DELETED("deleted");
+
+        private final String keyword;
+
+        ChangeType(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+
+    /**
+     * A contact that changed, with its details after the change, or its last details if it was deleted.
+     */
+    public static class Change {
+
+        private final Person person;
+        private final ChangeType type;
+        private final long sequence;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Change(Person person, ChangeType type, long sequence) {
+            requireAllNonNull(person, type);
+            this.person = person;
+            this.type = type;
+            this.sequence = sequence;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public ChangeType getType() {
+            return type;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Change)) {
+                return false;
+            }
+            Change otherChange = (Change) other;
+            return person.equals(otherChange.person)
+                    && type == otherChange.type
+                    && sequence == otherChange.sequence;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, type, sequence);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("person", person)
+                    .add("type", type)
+                    .add("sequence", sequence)
+                    .toString();
+        }
+    }
+
+    /**
+     * The latest change recorded for a contact.
+     */
+    public static class Entry {
+
+        private final Person person;
+        private final boolean isDeleted;
+        private final long sequence;
+        private final Instant time;
+        private final long addedSequence;
+        private final Instant addedTime;
+
+        /**
+         * Creates the entry of a contact last changed to {@code person}, or deleted with its last details being
+         * {@code person}, by the change numbered {@code sequence} at {@code time}. The contact was added by the
+         * change numbered {@code addedSequence} at {@code addedTime}, which is null if it was added before changes
+         * were recorded.
+         */
+        public Entry(Person person, boolean isDeleted, long sequence, Instant time, long addedSequence,
+                Instant addedTime) {
+            requireAllNonNull(person, time);
+            this.person = person;
+            this.isDeleted = isDeleted;
+            this.sequence = sequence;
+            this.time = time;
+            this.addedSequence = addedSequence;
+            this.addedTime = addedTime;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public boolean isDeleted() {
+            return isDeleted;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public Instant getTime() {
+            return time;
+        }
+
+        public long getAddedSequence() {
+            return addedSequence;
+        }
+
+        public Instant getAddedTime() {
+            return addedTime;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            Entry otherEntry = (Entry) other;
+            return person.equals(otherEntry.person)
+                    && isDeleted == otherEntry.isDeleted
+                    && sequence == otherEntry.sequence
+                    && time.equals(otherEntry.time)
+                    && addedSequence == otherEntry.addedSequence
+                    && Objects.equals(addedTime, otherEntry.addedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, isDeleted, sequence, time, addedSequence, addedTime);
+        }
+    }
+}
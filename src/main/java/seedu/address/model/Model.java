@@ -1,7 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleObjectProperty;
@@ -55,6 +59,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that increases every time the contact book is modified.
+     * Two equal values mean the contact book did not change in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the log of the contacts added, edited and deleted since changes started being recorded.
+     */
+    ChangeLog getChangeLog();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the contact book.
      */
@@ -79,6 +94,26 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each key of {@code replacements} with its mapped person and deletes every person in
+     * {@code toRemove}, as one change to the contact book.
+     * All targets must exist in the contact book.
+     */
+    void mergePersons(Map<Person, Person> replacements, Collection<Person> toRemove);
+
+    /**
+     * Applies {@code mutations} to the contact book as one change.
+     * The person list and the filtered person list are updated once, after all of {@code mutations} have run.
+     * If {@code mutations} throws, the contact book is left unchanged.
+     */
+    void batch(Consumer<AddressBook> mutations);
+
+    /**
+     * Adds {@code persons}, read from storage, to the contact book as one change, like {@link #batch(Consumer)}.
+     * They are not recorded in the change log, as they were not changed.
+     */
+    void loadPersons(List<Person> persons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
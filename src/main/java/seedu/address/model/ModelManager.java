@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
@@ -28,7 +33,9 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private SimpleObjectProperty<Person> focusedPerson;
     private final CommandHistory commandHistory;
-
+    private long addressBookVersion;
+    private final ChangeLog changeLog = new ChangeLog();
+    private boolean isRecordingChanges = true;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,6 +50,12 @@ public class ModelManager implements Model {
         this.commandHistory = new CommandHistory();
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         focusedPerson = new SimpleObjectProperty<>(null);
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            addressBookVersion++;
+            if (isRecordingChanges) {
+                changeLog.record(change);
+            }
+        });
     }
 
     public ModelManager() {
@@ -96,6 +109,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -139,6 +162,31 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void mergePersons(Map<Person, Person> replacements, Collection<Person> toRemove) {
+        requireAllNonNull(replacements, toRemove);
+
+        logger.fine(() -> "Merging contacts: " + replacements.size() + " updated, " + toRemove.size() + " removed");
+        addressBook.replaceAndRemovePersons(replacements, toRemove);
+    }
+
+    @Override
+    public void batch(Consumer<AddressBook> mutations) {
+        requireNonNull(mutations);
+        addressBook.batch(mutations);
+    }
+
+    @Override
+    public void loadPersons(List<Person> persons) {
+        requireNonNull(persons);
+        isRecordingChanges = false;
+        try {
+            addressBook.batch(book -> persons.forEach(book::addPerson));
+        } finally {
+            isRecordingChanges = true;
+        }
+    }
+
     @Override
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
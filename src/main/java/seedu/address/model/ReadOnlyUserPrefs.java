@@ -13,4 +13,22 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /** Returns how long to wait for further changes before saving the contact book. */
+    long getSaveDelayMillis();
+
+    /** Returns the longest time a change to the contact book may remain unsaved. */
+    long getMaxSaveStalenessMillis();
+
+    /** Returns the format the contact book is stored in, such as {@code json} or {@code binary}. */
+    String getAddressBookStorageFormat();
+
+    /**
+     * Returns whether exports, and the contact book if it is stored in the {@code json} format, are saved compressed.
+     * The other storage formats ignore it for the contact book.
+     */
+    boolean isDataCompressed();
+
+    /** Returns how many of the most recent backups of the contact book are kept. */
+    int getBackupRetentionCount();
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,20 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String STORAGE_FORMAT_JSON = "json";
+    public static final String STORAGE_FORMAT_JOURNAL = "journal";
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+    public static final String STORAGE_FORMAT_SHARDED = "sharded";
+    public static final String STORAGE_FORMAT_PAGED = "paged";
+    public static final String STORAGE_FORMAT_SQL = "sql";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "fastcard.json");
+    private long saveDelayMillis = 300;
+    private long maxSaveStalenessMillis = 2000;
+    private String addressBookStorageFormat = STORAGE_FORMAT_JSON;
+    private boolean isDataCompressed = false;
+    private int backupRetentionCount = 24;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
+        setMaxSaveStalenessMillis(newUserPrefs.getMaxSaveStalenessMillis());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        setDataCompressed(newUserPrefs.isDataCompressed());
+        setBackupRetentionCount(newUserPrefs.getBackupRetentionCount());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +74,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, "Save delay cannot be negative");
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        checkArgument(maxSaveStalenessMillis >= 0, "Maximum save staleness cannot be negative");
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    public String getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(String addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public boolean isDataCompressed() {
+        return isDataCompressed;
+    }
+
+    public void setDataCompressed(boolean isDataCompressed) {
+        this.isDataCompressed = isDataCompressed;
+    }
+
+    public int getBackupRetentionCount() {
+        return backupRetentionCount;
+    }
+
+    public void setBackupRetentionCount(int backupRetentionCount) {
+        checkArgument(backupRetentionCount > 0, "At least one backup must be kept");
+        this.backupRetentionCount = backupRetentionCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +131,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && saveDelayMillis == otherUserPrefs.saveDelayMillis
+                && maxSaveStalenessMillis == otherUserPrefs.maxSaveStalenessMillis
+                && addressBookStorageFormat.equals(otherUserPrefs.addressBookStorageFormat)
+                && isDataCompressed == otherUserPrefs.isDataCompressed
+                && backupRetentionCount == otherUserPrefs.backupRetentionCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveDelayMillis, maxSaveStalenessMillis,
+                addressBookStorageFormat, isDataCompressed, backupRetentionCount);
     }
 
     @Override
@@ -82,6 +150,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
+        sb.append("\nMaximum save staleness (ms) : " + maxSaveStalenessMillis);
+        sb.append("\nStorage format : " + addressBookStorageFormat);
+        sb.append("\nCompress data : " + isDataCompressed);
+        sb.append("\nBackups kept : " + backupRetentionCount);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's company in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -19,6 +21,8 @@ public class Company {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -37,7 +41,7 @@ public class Company {
      */
     public static boolean isValidCompany(String test) {
         Boolean withinLength = test.length() <= MAX_LENGTH;
-        Boolean isMatch = test.matches(VALIDATION_REGEX);
+        Boolean isMatch = VALIDATION_PATTERN.matcher(test).matches();
 
         return withinLength && isMatch;
     }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -32,6 +34,8 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -50,7 +54,7 @@ public class Email {
      */
     public static boolean isValidEmail(String test) {
         Boolean withinLength = test.length() <= MAX_LENGTH;
-        Boolean isMatch = test.matches(VALIDATION_REGEX);
+        Boolean isMatch = VALIDATION_PATTERN.matcher(test).matches();
 
         return withinLength && isMatch;
     }
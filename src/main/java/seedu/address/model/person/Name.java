@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +23,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} .\\-]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
     /**
@@ -40,7 +44,7 @@ public class Name {
      */
     public static boolean isValidName(String test) {
         Boolean withinLength = test.length() <= MAX_LENGTH;
-        Boolean isMatch = test.matches(VALIDATION_REGEX);
+        Boolean isMatch = VALIDATION_PATTERN.matcher(test).matches();
 
         return withinLength && isMatch;
     }
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
@@ -93,6 +94,13 @@ public class Person {
                 && this.phone.equals(otherPerson.phone);
     }
 
+    /**
+     * Returns a key that is equal for two persons if and only if {@link #isSamePerson(Person)} holds between them.
+     */
+    public String getIdentityKey() {
+        return normalizeName(name.fullName).toLowerCase(Locale.ROOT) + "|" + phone.value;
+    }
+
     /**
      * Normalize a name string by trimming and collapsing multiple spaces into one.
      */
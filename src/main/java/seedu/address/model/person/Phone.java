@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -14,6 +16,9 @@ public class Phone {
             "Phone numbers should only contain numbers, and it should be at least 3 digits long, and at most "
             + MAX_LENGTH + " digits long.";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -32,7 +37,7 @@ public class Phone {
      */
     public static boolean isValidPhone(String test) {
         Boolean withinLength = test.length() <= MAX_LENGTH;
-        Boolean isMatch = test.matches(VALIDATION_REGEX);
+        Boolean isMatch = VALIDATION_PATTERN.matcher(test).matches();
 
         return withinLength && isMatch;
     }
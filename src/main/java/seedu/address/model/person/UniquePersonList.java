@@ -3,11 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -19,22 +29,36 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are backed by a hash index of {@link Person#getIdentityKey()}. Mutations can be grouped with
+ * {@link #beginBatch()} and {@link #endBatch(boolean)} so that listeners receive a single change for the group.
+ * A batch keeps only the persons it adds, replaces and removes, and publishes just those, unless it changes most of
+ * the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonList internalList = new PersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Identity keys of the persons in the working list, see {@link Person#getIdentityKey()}. */
+    private Set<String> identityKeys = new HashSet<>();
+
+    /** Mutations made while a batch is open; {@code null} outside of a batch. */
+    private Batch batch;
+    private int batchDepth;
+    private boolean isBatchModified;
+    private boolean isBatchFailed;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityKeys.contains(toCheck.getIdentityKey());
     }
 
     /**
@@ -46,7 +70,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        if (batch == null) {
+            internalList.add(toAdd);
+        } else {
+            batch.add(toAdd);
+        }
+        identityKeys.add(toAdd.getIdentityKey());
+        isBatchModified = true;
     }
 
     /**
@@ -57,16 +87,26 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            boolean isTargetInList = batch == null ? internalList.contains(target) : batch.contains(target);
+            if (!isTargetInList) {
+                throw new PersonNotFoundException();
+            }
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        if (batch == null) {
+            int index = internalList.indexOf(target);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            internalList.set(index, editedPerson);
+        } else if (!batch.set(target, editedPerson)) {
+            throw new PersonNotFoundException();
+        }
+        identityKeys.remove(target.getIdentityKey());
+        identityKeys.add(editedPerson.getIdentityKey());
+        isBatchModified = true;
     }
 
     /**
@@ -75,14 +115,57 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        boolean isRemoved = batch == null ? internalList.remove(toRemove) : batch.remove(toRemove);
+        if (!isRemoved) {
             throw new PersonNotFoundException();
         }
+        identityKeys.remove(toRemove.getIdentityKey());
+        isBatchModified = true;
+    }
+
+    /**
+     * Replaces every key of {@code replacements} with its mapped person and removes every person in
+     * {@code toRemove}, notifying listeners with a single change.
+     * All targets must exist in the list, and the resulting list must not contain duplicate persons.
+     */
+    public void replaceAndRemove(Map<Person, Person> replacements, Collection<Person> toRemove) {
+        requireAllNonNull(replacements, toRemove);
+        Set<Person> removals = new HashSet<>(toRemove);
+        List<Person> current = batch == null ? internalList : batch.toList();
+        List<Person> updated = new ArrayList<>(current.size());
+        int replacedCount = 0;
+        int removedCount = 0;
+
+        for (Person person : current) {
+            if (removals.contains(person)) {
+                removedCount++;
+                continue;
+            }
+            Person replacement = replacements.get(person);
+            if (replacement != null) {
+                replacedCount++;
+                updated.add(replacement);
+            } else {
+                updated.add(person);
+            }
+        }
+
+        if (replacedCount != replacements.size() || removedCount != removals.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        Set<String> updatedKeys = identityKeysOf(updated);
+        if (updatedKeys == null) {
+            throw new DuplicatePersonException();
+        }
+
+        replaceWorkingList(updated, updatedKeys);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        List<Person> persons = replacement.batch == null ? replacement.internalList : replacement.batch.toList();
+        replaceWorkingList(persons, new HashSet<>(replacement.identityKeys));
     }
 
     /**
@@ -91,11 +174,58 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Set<String> keys = identityKeysOf(persons);
+        if (keys == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceWorkingList(persons, keys);
+    }
+
+    /**
+     * Starts a batch of mutations.
+     * Until the matching {@link #endBatch(boolean)}, mutations are kept apart from
+     * {@link #asUnmodifiableObservableList()}, whose listeners are not notified. Batches may be nested.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batch = new Batch();
+            isBatchModified = false;
+            isBatchFailed = false;
+        }
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     * When the outermost batch ends, all of its mutations are published as a single change, unless any batch
+     * in it ended with {@code isSuccessful} false, in which case all of its mutations are discarded.
+     */
+    public void endBatch(boolean isSuccessful) {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        isBatchFailed |= !isSuccessful;
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        Batch completedBatch = batch;
+        batch = null;
+        if (isBatchFailed) {
+            identityKeys = identityKeysOf(internalList);
+        } else if (isBatchModified) {
+            completedBatch.publish();
+        }
+    }
+
+    private void replaceWorkingList(List<Person> persons, Set<String> keys) {
+        if (batch == null) {
+            internalList.setAll(persons);
+        } else {
+            batch.setAll(persons);
+        }
+        identityKeys = keys;
+        isBatchModified = true;
     }
 
     /**
@@ -107,7 +237,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return batch == null ? internalList.iterator() : batch.toList().iterator();
     }
 
     @Override
@@ -136,17 +266,16 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the identity keys of {@code persons}, or {@code null} if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Set<String> identityKeysOf(List<Person> persons) {
+        Set<String> keys = new HashSet<>();
+        for (Person person : persons) {
+            if (!keys.add(person.getIdentityKey())) {
+                return null;
             }
         }
-        return true;
+        return keys;
     }
 
     /**
@@ -155,6 +284,238 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        internalList.sort(comparator);
+        if (batch == null) {
+            internalList.sort(comparator);
+        } else {
+            batch.sort(comparator);
+        }
+        isBatchModified = true;
+    }
+
+    /**
+     * The mutations of an open batch, kept apart from the published list until the batch ends.
+     * Persons are replaced and removed by their index in the published list, and added after it, until a mutation
+     * that changes the whole list, after which the whole working list is kept instead.
+     */
+    private class Batch {
+        private final SortedMap<Integer, Person> replaced = new TreeMap<>();
+        private final BitSet removed = new BitSet();
+        private final List<Person> added = new ArrayList<>();
+
+        /** The whole working list, or {@code null} while only the changed persons are kept. */
+        private List<Person> wholeList;
+
+        void add(Person toAdd) {
+            (wholeList == null ? added : wholeList).add(toAdd);
+        }
+
+        /**
+         * Replaces {@code target} with {@code editedPerson}, returning false if {@code target} is not in the list.
+         */
+        boolean set(Person target, Person editedPerson) {
+            if (wholeList != null) {
+                int index = wholeList.indexOf(target);
+                if (index != -1) {
+                    wholeList.set(index, editedPerson);
+                }
+                return index != -1;
+            }
+
+            int addedIndex = added.indexOf(target);
+            if (addedIndex != -1) {
+                added.set(addedIndex, editedPerson);
+                return true;
+            }
+            int index = indexOfPublished(target);
+            if (index != -1) {
+                replaced.put(index, editedPerson);
+            }
+            return index != -1;
+        }
+
+        /**
+         * Removes {@code toRemove}, returning false if it is not in the list.
+         */
+        boolean remove(Person toRemove) {
+            if (wholeList != null) {
+                return wholeList.remove(toRemove);
+            }
+            if (added.remove(toRemove)) {
+                return true;
+            }
+            int index = indexOfPublished(toRemove);
+            if (index != -1) {
+                replaced.remove(index);
+                removed.set(index);
+            }
+            return index != -1;
+        }
+
+        boolean contains(Person person) {
+            if (wholeList != null) {
+                return wholeList.contains(person);
+            }
+            return added.contains(person) || indexOfPublished(person) != -1;
+        }
+
+        void setAll(List<Person> persons) {
+            wholeList = new ArrayList<>(persons);
+        }
+
+        void sort(Comparator<Person> comparator) {
+            if (wholeList == null) {
+                wholeList = toList();
+            }
+            wholeList.sort(comparator);
+        }
+
+        /**
+         * Returns the index in the published list of the person that is now {@code person}, or -1 if there is none.
+         */
+        private int indexOfPublished(Person person) {
+            int index = internalList.indexOf(person);
+            if (index != -1 && !removed.get(index) && !replaced.containsKey(index)) {
+                return index;
+            }
+            for (Map.Entry<Integer, Person> replacement : replaced.entrySet()) {
+                if (replacement.getValue().equals(person)) {
+                    return replacement.getKey();
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the working list, with the mutations of this batch applied.
+         */
+        List<Person> toList() {
+            if (wholeList != null) {
+                return wholeList;
+            }
+            List<Person> list = new ArrayList<>(internalList.size() - removed.cardinality() + added.size());
+            for (int i = 0; i < internalList.size(); i++) {
+                if (!removed.get(i)) {
+                    list.add(replaced.getOrDefault(i, internalList.get(i)));
+                }
+            }
+            list.addAll(added);
+            return list;
+        }
+
+        /**
+         * Applies the mutations of this batch to the published list as a single change. The list is replaced
+         * as a whole if most of it changed.
+         */
+        void publish() {
+            int changedCount = replaced.size() + removed.cardinality();
+            if (wholeList != null || changedCount > internalList.size() / 2) {
+                internalList.setAll(toList());
+            } else {
+                internalList.applyChanges(replaced, removed, added);
+            }
+        }
+    }
+
+    /**
+     * The observable list of persons, which can publish several scattered changes as one.
+     */
+    private static class PersonList extends ModifiableObservableListBase<Person> {
+        private List<Person> elements = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return elements.remove(index);
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends Person> persons) {
+            List<Person> previous = elements;
+            elements = new ArrayList<>(persons);
+            beginChange();
+            if (!previous.isEmpty()) {
+                nextRemove(0, previous);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+            endChange();
+            return true;
+        }
+
+        /**
+         * Sorts the list, publishing the move of every person as a permutation.
+         */
+        @Override
+        public void sort(Comparator<? super Person> comparator) {
+            int size = elements.size();
+            if (size == 0) {
+                return;
+            }
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> comparator.compare(elements.get(first), elements.get(second)));
+
+            int[] permutation = new int[size];
+            List<Person> sorted = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                permutation[order[i]] = i;
+                sorted.add(elements.get(order[i]));
+            }
+            elements = sorted;
+            beginChange();
+            nextPermutation(0, size, permutation);
+            endChange();
+        }
+
+        /**
+         * Replaces the persons at the indices of {@code replaced}, removes those at the indices in {@code removed}
+         * and appends {@code added}, as a single change. Indices are those before the change.
+         */
+        void applyChanges(SortedMap<Integer, Person> replaced, BitSet removed, List<Person> added) {
+            beginChange();
+            replaced.forEach((index, person) -> nextSet(index, elements.set(index, person)));
+
+            // Persons before the first removed one stay where they are
+            int size = elements.size();
+            int keptCount = removed.isEmpty() ? size : removed.nextSetBit(0);
+            for (int i = keptCount; i < size; i++) {
+                Person person = elements.get(i);
+                if (removed.get(i)) {
+                    nextRemove(keptCount, person);
+                } else {
+                    elements.set(keptCount++, person);
+                }
+            }
+            elements.subList(keptCount, size).clear();
+
+            if (!added.isEmpty()) {
+                int from = elements.size();
+                elements.addAll(added);
+                nextAdd(from, elements.size());
+            }
+            endChange();
+        }
     }
 }
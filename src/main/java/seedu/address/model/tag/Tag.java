@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the contact book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +16,8 @@ public class Tag {
             "Tags names should be alphanumeric and at most " + MAX_LENGTH + " characters";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String tagName;
 
     /**
@@ -32,7 +36,7 @@ public class Tag {
      */
     public static boolean isValidTagName(String test) {
         Boolean bool1 = test.length() <= MAX_LENGTH;
-        Boolean bool2 = test.matches(VALIDATION_REGEX);
+        Boolean bool2 = VALIDATION_PATTERN.matcher(test).matches();
 
         return bool1 && bool2;
     }
@@ -0,0 +1,398 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A B+tree mapping byte string keys to byte string values, stored in the pages of a {@link Pager}.
+ * <p>
+ * Keys are ordered by unsigned lexicographic comparison. Each node occupies one page: internal nodes hold separator
+ * keys and child pages, and leaves hold keys with their values and a link to the next leaf, so that keys can be
+ * scanned in order. Values larger than {@link #MAX_INLINE_VALUE_SIZE} are stored in a chain of overflow pages.
+ * A node is split when it outgrows its page. Removing a key does not merge nodes, so a leaf may be left empty.
+ * <p>
+ * Changes are made through the pager and become durable when the pager commits.
+ */
+class BPlusTree {
+
+    public static final int MAX_KEY_SIZE = 512;
+    public static final int MAX_INLINE_VALUE_SIZE = 1024;
+
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+    private static final int NODE_HEADER_SIZE = Byte.BYTES + Short.BYTES + Integer.BYTES;
+    private static final short OVERFLOW_MARKER = -1;
+    private static final int OVERFLOW_HEADER_SIZE = Integer.BYTES;
+    private static final int OVERFLOW_CAPACITY = Pager.PAGE_SIZE - OVERFLOW_HEADER_SIZE;
+
+    private final Pager pager;
+    private final int rootSlot;
+
+    /**
+     * Creates a {@code BPlusTree} whose root page is kept in root slot {@code rootSlot} of {@code pager}.
+     */
+    public BPlusTree(Pager pager, int rootSlot) {
+        this.pager = pager;
+        this.rootSlot = rootSlot;
+    }
+
+    /**
+     * Returns the value stored under {@code key}, or null if there is none.
+     */
+    public byte[] get(byte[] key) throws IOException {
+        int root = pager.getRoot(rootSlot);
+        if (root == 0) {
+            return null;
+        }
+        Node leaf = findLeaf(root, key);
+        int index = leaf.search(key);
+        return index >= 0 ? leaf.cells.get(index).resolve(pager) : null;
+    }
+
+    /**
+     * Stores {@code value} under {@code key}, replacing any value already stored under it.
+     */
+    public void put(byte[] key, byte[] value) throws IOException {
+        checkArgument(key.length <= MAX_KEY_SIZE, "Key is too long");
+        int root = pager.getRoot(rootSlot);
+        if (root == 0) {
+            root = pager.allocate();
+            new Node(root, LEAF).store(pager);
+            pager.setRoot(rootSlot, root);
+        }
+
+        Split split = insert(root, key, Cell.of(pager, value));
+        if (split != null) {
+            Node newRoot = new Node(pager.allocate(), INTERNAL);
+            newRoot.children.add(root);
+            newRoot.keys.add(split.key);
+            newRoot.children.add(split.rightPage);
+            newRoot.store(pager);
+            pager.setRoot(rootSlot, newRoot.pageId);
+        }
+    }
+
+    /**
+     * Removes the value stored under {@code key}.
+     *
+     * @return true if there was a value stored under {@code key}.
+     */
+    public boolean remove(byte[] key) throws IOException {
+        int root = pager.getRoot(rootSlot);
+        if (root == 0) {
+            return false;
+        }
+        Node leaf = findLeaf(root, key);
+        int index = leaf.search(key);
+        if (index < 0) {
+            return false;
+        }
+        leaf.keys.remove(index);
+        leaf.cells.remove(index).free(pager);
+        leaf.store(pager);
+        return true;
+    }
+
+    /**
+     * Calls {@code visitor} with each key not less than {@code from} and its value, in key order, until the
+     * visitor returns false. A null {@code from} starts from the smallest key.
+     */
+    public void scan(byte[] from, Visitor visitor) throws IOException {
+        int root = pager.getRoot(rootSlot);
+        if (root == 0) {
+            return;
+        }
+        Node leaf = findLeaf(root, from == null ? new byte[0] : from);
+        while (true) {
+            for (int i = 0; i < leaf.keys.size(); i++) {
+                byte[] key = leaf.keys.get(i);
+                if (from != null && Arrays.compareUnsigned(key, from) < 0) {
+                    continue;
+                }
+                if (!visitor.visit(key, leaf.cells.get(i).resolve(pager))) {
+                    return;
+                }
+            }
+            if (leaf.next == 0) {
+                return;
+            }
+            leaf = Node.load(pager, leaf.next);
+        }
+    }
+
+    private Node findLeaf(int root, byte[] key) throws IOException {
+        Node node = Node.load(pager, root);
+        while (node.type == INTERNAL) {
+            node = Node.load(pager, node.children.get(node.childIndex(key)));
+        }
+        return node;
+    }
+
+    /**
+     * Inserts {@code cell} under {@code key} into the subtree rooted at {@code pageId}.
+     *
+     * @return the split of that subtree's root, or null if it did not need to split.
+     */
+    private Split insert(int pageId, byte[] key, Cell cell) throws IOException {
+        Node node = Node.load(pager, pageId);
+        if (node.type == LEAF) {
+            int index = node.search(key);
+            if (index >= 0) {
+                node.cells.set(index, cell).free(pager);
+            } else {
+                node.keys.add(-index - 1, key);
+                node.cells.add(-index - 1, cell);
+            }
+        } else {
+            int childIndex = node.childIndex(key);
+            Split split = insert(node.children.get(childIndex), key, cell);
+            if (split == null) {
+                return null;
+            }
+            node.keys.add(childIndex, split.key);
+            node.children.add(childIndex + 1, split.rightPage);
+        }
+
+        if (node.size() <= Pager.PAGE_SIZE) {
+            node.store(pager);
+            return null;
+        }
+        return node.split(pager);
+    }
+
+    /**
+     * Receives the entries of a scan.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        boolean visit(byte[] key, byte[] value) throws IOException;
+    }
+
+    /**
+     * The result of splitting a node: the smallest key of the new right node, and that node's page.
+     */
+    private static class Split {
+        private final byte[] key;
+        private final int rightPage;
+
+        Split(byte[] key, int rightPage) {
+            this.key = key;
+            this.rightPage = rightPage;
+        }
+    }
+
+    /**
+     * A value as stored in a leaf: either the value itself, or the first page and length of its overflow chain.
+     */
+    private static class Cell {
+        private final byte[] inline;
+        private final int overflowPage;
+        private final int length;
+
+        private Cell(byte[] inline, int overflowPage, int length) {
+            this.inline = inline;
+            this.overflowPage = overflowPage;
+            this.length = length;
+        }
+
+        /**
+         * Returns a cell for {@code value}, writing it to overflow pages if it is too large to store inline.
+         */
+        static Cell of(Pager pager, byte[] value) throws IOException {
+            if (value.length <= MAX_INLINE_VALUE_SIZE) {
+                return new Cell(value, 0, value.length);
+            }
+
+            int firstPage = pager.allocate();
+            int page = firstPage;
+            for (int offset = 0; offset < value.length; offset += OVERFLOW_CAPACITY) {
+                int chunk = Math.min(OVERFLOW_CAPACITY, value.length - offset);
+                int nextPage = offset + chunk < value.length ? pager.allocate() : 0;
+                ByteBuffer buffer = pager.write(page);
+                buffer.putInt(0, nextPage);
+                buffer.put(OVERFLOW_HEADER_SIZE, value, offset, chunk);
+                page = nextPage;
+            }
+            return new Cell(null, firstPage, value.length);
+        }
+
+        byte[] resolve(Pager pager) throws IOException {
+            if (inline != null) {
+                return inline;
+            }
+            byte[] value = new byte[length];
+            int page = overflowPage;
+            for (int offset = 0; offset < length; offset += OVERFLOW_CAPACITY) {
+                ByteBuffer buffer = pager.read(page);
+                buffer.get(OVERFLOW_HEADER_SIZE, value, offset, Math.min(OVERFLOW_CAPACITY, length - offset));
+                page = buffer.getInt(0);
+            }
+            return value;
+        }
+
+        void free(Pager pager) throws IOException {
+            int page = overflowPage;
+            while (page != 0) {
+                int nextPage = pager.read(page).getInt(0);
+                pager.free(page);
+                page = nextPage;
+            }
+        }
+
+        int size() {
+            return Short.BYTES + (inline != null ? inline.length : Integer.BYTES * 2);
+        }
+    }
+
+    /**
+     * A node of the tree, decoded from its page.
+     * Internal nodes have one more child than keys, and child {@code i} holds the keys from key {@code i - 1}
+     * (inclusive) to key {@code i} (exclusive).
+     */
+    private static class Node {
+        private final int pageId;
+        private final byte type;
+        private final List<byte[]> keys = new ArrayList<>();
+        private final List<Cell> cells = new ArrayList<>();
+        private final List<Integer> children = new ArrayList<>();
+        private int next;
+
+        Node(int pageId, byte type) {
+            this.pageId = pageId;
+            this.type = type;
+        }
+
+        static Node load(Pager pager, int pageId) throws IOException {
+            ByteBuffer page = pager.read(pageId).duplicate();
+            page.clear();
+            byte type = page.get();
+            if (type != LEAF && type != INTERNAL) {
+                throw new IOException("Page " + pageId + " is not a tree node.");
+            }
+            Node node = new Node(pageId, type);
+            int count = page.getShort();
+            int link = page.getInt();
+            if (type == LEAF) {
+                node.next = link;
+            } else {
+                node.children.add(link);
+            }
+
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[page.getShort()];
+                page.get(key);
+                node.keys.add(key);
+                if (type == INTERNAL) {
+                    node.children.add(page.getInt());
+                    continue;
+                }
+                short valueLength = page.getShort();
+                if (valueLength == OVERFLOW_MARKER) {
+                    int overflowPage = page.getInt();
+                    node.cells.add(new Cell(null, overflowPage, page.getInt()));
+                } else {
+                    byte[] value = new byte[valueLength];
+                    page.get(value);
+                    node.cells.add(new Cell(value, 0, valueLength));
+                }
+            }
+            return node;
+        }
+
+        void store(Pager pager) throws IOException {
+            ByteBuffer page = pager.write(pageId).duplicate();
+            page.clear();
+            page.put(type);
+            page.putShort((short) keys.size());
+            page.putInt(type == LEAF ? next : children.get(0));
+            for (int i = 0; i < keys.size(); i++) {
+                page.putShort((short) keys.get(i).length);
+                page.put(keys.get(i));
+                if (type == INTERNAL) {
+                    page.putInt(children.get(i + 1));
+                    continue;
+                }
+                Cell cell = cells.get(i);
+                if (cell.inline != null) {
+                    page.putShort((short) cell.inline.length);
+                    page.put(cell.inline);
+                } else {
+                    page.putShort(OVERFLOW_MARKER);
+                    page.putInt(cell.overflowPage);
+                    page.putInt(cell.length);
+                }
+            }
+        }
+
+        int size() {
+            int size = NODE_HEADER_SIZE;
+            for (int i = 0; i < keys.size(); i++) {
+                size += entrySize(i);
+            }
+            return size;
+        }
+
+        int search(byte[] key) {
+            int low = 0;
+            int high = keys.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int comparison = Arrays.compareUnsigned(keys.get(mid), key);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        int childIndex(byte[] key) {
+            int index = search(key);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Moves the upper half of this node, by size, to a new node and stores both.
+         */
+        Split split(Pager pager) throws IOException {
+            int half = size() / 2;
+            int middle = 0;
+            for (int size = NODE_HEADER_SIZE; middle < keys.size() - 1 && size < half; middle++) {
+                size += entrySize(middle);
+            }
+            middle = Math.max(middle, 1);
+
+            Node right = new Node(pager.allocate(), type);
+            byte[] separator = keys.get(middle);
+            if (type == LEAF) {
+                right.keys.addAll(keys.subList(middle, keys.size()));
+                right.cells.addAll(cells.subList(middle, cells.size()));
+                keys.subList(middle, keys.size()).clear();
+                cells.subList(middle, cells.size()).clear();
+                right.next = next;
+                next = right.pageId;
+            } else {
+                right.keys.addAll(keys.subList(middle + 1, keys.size()));
+                right.children.addAll(children.subList(middle + 1, children.size()));
+                keys.subList(middle, keys.size()).clear();
+                children.subList(middle + 1, children.size()).clear();
+            }
+            store(pager);
+            right.store(pager);
+            return new Split(separator, right.pageId);
+        }
+
+        private int entrySize(int index) {
+            int size = Short.BYTES + keys.get(index).length;
+            return size + (type == LEAF ? cells.get(index).size() : Integer.BYTES);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Keeps backups of the contact book, storing the content shared between backups only once.
+ * <p>
+ * Each backup is the contact book in the JSON data file format, split into chunks where a rolling hash of the last
+ * few dozen bytes matches a pattern. Chunk boundaries therefore depend only on the nearby content, so a change to one
+ * person changes only the chunks around it, and the rest are the same as in earlier backups. Chunks are stored once,
+ * named by their SHA-256 hash, and a manifest per backup lists the chunks it is made of. Writing a backup costs about
+ * as much as the content that changed since the backups kept, plus the manifest, and reading the stored chunks
+ * back to check them. A damaged chunk is rewritten by the next backup that contains it.
+ * <p>
+ * The backups are kept in the directory {@code <data file name>-backups} beside the JSON data file.
+ */
+public class BackupStore {
+
+    public static final String BACKUP_FOLDER_SUFFIX = "-backups";
+
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup %1$s.";
+    public static final String MESSAGE_DAMAGED_BACKUP = "Backup %1$s is damaged: chunk %2$s is missing or corrupted.";
+
+    static final int MIN_CHUNK_SIZE = 1024;
+    static final int MAX_CHUNK_SIZE = 32 * 1024;
+
+    /** A chunk ends where the top 12 bits of the rolling hash are zero, so chunks are about 4 KiB on average. */
+    private static final long BOUNDARY_MASK = 0xFFF0_0000_0000_0000L;
+    private static final long[] GEAR = new Random(0x46617374L).longs(256).toArray();
+
+    private static final Logger logger = LogsCenter.getLogger(BackupStore.class);
+
+    private static final String CHUNKS_FOLDER = "chunks";
+    private static final String MANIFESTS_FOLDER = "manifests";
+    private static final String MANIFEST_EXTENSION = ".json";
+    private static final Pattern CHUNK_NAME_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d{8}-\\d{6}(-\\d+)?");
+    private static final DateTimeFormatter ID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+
+    private final Path directory;
+
+    /**
+     * Creates a {@code BackupStore} that keeps its backups in {@code directory}.
+     */
+    public BackupStore(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory holding the backups of the contact book saved at {@code dataFilePath}.
+     */
+    public static Path getBackupDirectory(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + BACKUP_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Backs up {@code addressBook}, writing only the chunks that no kept backup already has.
+     */
+    public Backup createBackup(ReadOnlyAddressBook addressBook, Instant created) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(created);
+
+        ChunkWriter chunkWriter = new ChunkWriter();
+        try (chunkWriter) {
+            JsonAddressBookWriter.write(addressBook, chunkWriter);
+        }
+
+        String id = nextId(created);
+        JsonBackupManifest manifest = new JsonBackupManifest(created.toEpochMilli(),
+                addressBook.getPersonList().size(), chunkWriter.newBytes, chunkWriter.hashes);
+        JsonUtil.saveJsonFile(manifest, getManifestPath(id));
+        logger.info("Created backup " + id + " of " + chunkWriter.hashes.size() + " chunks, "
+                + chunkWriter.newChunkCount + " of them new");
+        return new Backup(id, manifest);
+    }
+
+    /**
+     * Returns the backups kept, the most recent first.
+     * Backups whose manifest cannot be read are left out.
+     */
+    public List<Backup> listBackups() throws IOException {
+        Path manifestsDirectory = directory.resolve(MANIFESTS_FOLDER);
+        if (!Files.isDirectory(manifestsDirectory)) {
+            return new ArrayList<>();
+        }
+
+        List<Backup> backups = new ArrayList<>();
+        try (Stream<Path> manifestPaths = Files.list(manifestsDirectory)) {
+            for (Path manifestPath : manifestPaths.collect(Collectors.toList())) {
+                String fileName = manifestPath.getFileName().toString();
+                if (!fileName.endsWith(MANIFEST_EXTENSION)) {
+                    continue;
+                }
+                String id = fileName.substring(0, fileName.length() - MANIFEST_EXTENSION.length());
+                readManifest(id).ifPresent(manifest -> backups.add(new Backup(id, manifest)));
+            }
+        }
+        backups.sort(Comparator.comparing(Backup::getCreated).thenComparing(Backup::getId).reversed());
+        return backups;
+    }
+
+    /**
+     * Returns the contact book backed up as {@code id}.
+     *
+     * @throws IOException if there is no such backup, or it is damaged.
+     * @throws IllegalValueException if the backed up contact book is not valid.
+     */
+    public AddressBook restore(String id) throws IOException, IllegalValueException {
+        requireNonNull(id);
+        if (!ID_PATTERN.matcher(id).matches()) {
+            throw new IOException(String.format(MESSAGE_BACKUP_NOT_FOUND, id));
+        }
+        JsonBackupManifest manifest = readManifest(id)
+                .orElseThrow(() -> new IOException(String.format(MESSAGE_BACKUP_NOT_FOUND, id)));
+        try (InputStream in = new ChunkReader(id, manifest.getChunks())) {
+            return JsonAddressBookReader.read(in);
+        }
+    }
+
+    /**
+     * Deletes all but the {@code retentionCount} most recent backups, along with the chunks only they used.
+     *
+     * @return the number of backups deleted.
+     */
+    public int prune(int retentionCount) throws IOException {
+        checkArgument(retentionCount > 0, "At least one backup must be kept");
+        List<Backup> backups = listBackups();
+        if (backups.size() <= retentionCount) {
+            return 0;
+        }
+
+        List<Backup> expired = backups.subList(retentionCount, backups.size());
+        for (Backup backup : expired) {
+            Files.deleteIfExists(getManifestPath(backup.getId()));
+        }
+        int expiredCount = expired.size();
+        logger.info("Deleted " + expiredCount + " expired backups");
+        deleteUnusedChunks(backups.subList(0, retentionCount));
+        return expiredCount;
+    }
+
+    private void deleteUnusedChunks(List<Backup> keptBackups) throws IOException {
+        Set<String> usedChunks = new HashSet<>();
+        for (Backup backup : keptBackups) {
+            Optional<JsonBackupManifest> manifest = readManifest(backup.getId());
+            if (manifest.isEmpty()) {
+                // Without knowing its chunks, none can safely be deleted.
+                return;
+            }
+            usedChunks.addAll(manifest.get().getChunks());
+        }
+
+        Path chunksDirectory = directory.resolve(CHUNKS_FOLDER);
+        if (!Files.isDirectory(chunksDirectory)) {
+            return;
+        }
+        try (Stream<Path> chunkPaths = Files.walk(chunksDirectory)) {
+            for (Path chunkPath : chunkPaths.collect(Collectors.toList())) {
+                String name = chunkPath.getFileName().toString();
+                if (CHUNK_NAME_PATTERN.matcher(name).matches() && !usedChunks.contains(name)) {
+                    Files.deleteIfExists(chunkPath);
+                }
+            }
+        }
+    }
+
+    private Optional<JsonBackupManifest> readManifest(String id) {
+        try {
+            return JsonUtil.readJsonFile(getManifestPath(id), JsonBackupManifest.class);
+        } catch (DataLoadingException e) {
+            logger.warning("Ignoring unreadable manifest of backup " + id + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    private String nextId(Instant created) {
+        String baseId = ID_FORMAT.format(created);
+        String id = baseId;
+        for (int suffix = 2; Files.exists(getManifestPath(id)); suffix++) {
+            id = baseId + "-" + suffix;
+        }
+        return id;
+    }
+
+    private Path getManifestPath(String id) {
+        return directory.resolve(MANIFESTS_FOLDER).resolve(id + MANIFEST_EXTENSION);
+    }
+
+    private Path getChunkPath(String hash) {
+        return directory.resolve(CHUNKS_FOLDER).resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static String hash(byte[] bytes, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bytes, 0, length);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available", e);
+        }
+    }
+
+    /**
+     * Splits what is written to it into chunks, and stores the chunks that are not stored yet.
+     * Closing it ends the last chunk.
+     */
+    private class ChunkWriter extends OutputStream {
+        private final List<String> hashes = new ArrayList<>();
+        private final byte[] chunk = new byte[MAX_CHUNK_SIZE];
+        private int length;
+        private long rollingHash;
+        private int newChunkCount;
+        private long newBytes;
+
+        @Override
+        public void write(int b) throws IOException {
+            chunk[length++] = (byte) b;
+            rollingHash = (rollingHash << 1) + GEAR[b & 0xff];
+            if (length == MAX_CHUNK_SIZE || (length >= MIN_CHUNK_SIZE && (rollingHash & BOUNDARY_MASK) == 0)) {
+                endChunk();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (length > 0) {
+                endChunk();
+            }
+        }
+
+        private void endChunk() throws IOException {
+            String hash = hash(chunk, length);
+            Path chunkPath = getChunkPath(hash);
+            if (!isStored(chunkPath)) {
+                int chunkLength = length;
+                FileUtil.writeAtomically(chunkPath, out -> out.write(chunk, 0, chunkLength));
+                newChunkCount++;
+                newBytes += length;
+            }
+            hashes.add(hash);
+            length = 0;
+            rollingHash = 0;
+        }
+
+        /**
+         * Returns true if the current chunk is stored intact at {@code chunkPath}.
+         * A stored chunk that differs from it is damaged, and is rewritten so that the backups using it can be
+         * restored again.
+         */
+        private boolean isStored(Path chunkPath) throws IOException {
+            if (!Files.exists(chunkPath)) {
+                return false;
+            }
+            if (Files.size(chunkPath) == length
+                    && Arrays.equals(Files.readAllBytes(chunkPath), 0, length, chunk, 0, length)) {
+                return true;
+            }
+            logger.warning("Rewriting damaged backup chunk " + chunkPath.getFileName());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the chunks of a backup in order, checking each against its hash.
+     */
+    private class ChunkReader extends InputStream {
+        private final String id;
+        private final Iterator<String> hashes;
+        private InputStream current = InputStream.nullInputStream();
+
+        ChunkReader(String id, List<String> hashes) {
+            this.id = id;
+            this.hashes = hashes.iterator();
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = current.read(buffer, offset, length);
+            while (count == -1 && hashes.hasNext()) {
+                current = new ByteArrayInputStream(readChunk(hashes.next()));
+                count = current.read(buffer, offset, length);
+            }
+            return count;
+        }
+
+        private byte[] readChunk(String hash) throws IOException {
+            boolean isStored = CHUNK_NAME_PATTERN.matcher(hash).matches() && Files.exists(getChunkPath(hash));
+            byte[] bytes = isStored ? Files.readAllBytes(getChunkPath(hash)) : null;
+            if (bytes == null || !hash(bytes, bytes.length).equals(hash)) {
+                throw new IOException(String.format(MESSAGE_DAMAGED_BACKUP, id, hash));
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * A backup of the contact book, identified by the time it was created.
+     */
+    public static class Backup {
+        private final String id;
+        private final Instant created;
+        private final int personCount;
+        private final long newBytes;
+
+        private Backup(String id, JsonBackupManifest manifest) {
+            this.id = id;
+            this.created = Instant.ofEpochMilli(manifest.getCreatedMillis());
+            this.personCount = manifest.getPersonCount();
+            this.newBytes = manifest.getNewBytes();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Instant getCreated() {
+            return created;
+        }
+
+        public int getPersonCount() {
+            return personCount;
+        }
+
+        /**
+         * Returns the number of bytes of chunks that were written when this backup was created.
+         */
+        public long getNewBytes() {
+            return newBytes;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Detail;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes contact books in FastCard's binary snapshot format.
+ * <p>
+ * A snapshot starts with a header holding a magic number, the format version, the number of persons, companies and
+ * tags, and a CRC32 of the body. The body holds the distinct company names, then the distinct tag names, then the
+ * persons. Strings are written as a variable-length byte count followed by their UTF-8 bytes, and each person refers
+ * to its company and tags by their position in the lists of distinct names.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x4643424B; // "FCBK"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES * 3 + Long.BYTES;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a FastCard binary snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version %1$d.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary snapshot is corrupted (checksum mismatch).";
+    public static final String MESSAGE_TRUNCATED = "Binary snapshot is truncated or malformed.";
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}. {@code out} is not closed.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> companyIds = new LinkedHashMap<>();
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+        for (Person person : persons) {
+            companyIds.putIfAbsent(person.getCompany().value, companyIds.size());
+            for (Tag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag.tagName, tagIds.size());
+            }
+        }
+
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        for (String company : companyIds.keySet()) {
+            writeString(body, company);
+        }
+        for (String tag : tagIds.keySet()) {
+            writeString(body, tag);
+        }
+        for (Person person : persons) {
+            writeString(body, person.getName().fullName);
+            writeString(body, person.getPhone().value);
+            writeString(body, person.getEmail().value);
+            writeString(body, person.getDetail().value);
+            writeVarInt(body, companyIds.get(person.getCompany().value));
+            writeVarInt(body, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarInt(body, tagIds.get(tag.tagName));
+            }
+        }
+        body.flush();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bodyBytes.toByteArray());
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.writeInt(persons.size());
+        header.writeInt(companyIds.size());
+        header.writeInt(tagIds.size());
+        header.writeLong(checksum.getValue());
+        header.flush();
+        bodyBytes.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Returns true if {@code bytes} starts with the binary snapshot magic number.
+     */
+    public static boolean isSnapshot(byte[] bytes) {
+        return bytes.length >= Integer.BYTES && ByteBuffer.wrap(bytes).getInt() == MAGIC;
+    }
+
+    /**
+     * Reads the contact book in {@code bytes}.
+     *
+     * @throws IOException if {@code bytes} is not an intact binary snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(byte[] bytes) throws IOException, IllegalValueException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (bytes.length < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int personCount = buffer.getInt();
+            int companyCount = buffer.getInt();
+            int tagCount = buffer.getInt();
+            long expectedChecksum = buffer.getLong();
+
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+
+            return readBody(buffer, personCount, companyCount, tagCount);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    private static AddressBook readBody(ByteBuffer buffer, int personCount, int companyCount, int tagCount)
+            throws IOException, IllegalValueException {
+        // Every entry takes at least one byte, so larger counts can only come from a malformed header.
+        if (personCount < 0 || companyCount < 0 || tagCount < 0
+                || (long) personCount + companyCount + tagCount > buffer.remaining()) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+
+        // Each distinct company and tag is validated once, and the resulting objects are shared between persons.
+        Company[] companies = new Company[companyCount];
+        for (int i = 0; i < companyCount; i++) {
+            companies[i] = toModel(() -> new Company(readString(buffer)));
+        }
+        Tag[] tags = new Tag[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tags[i] = toModel(() -> new Tag(readString(buffer)));
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        Set<String> identityKeys = new HashSet<>();
+        for (int i = 0; i < personCount; i++) {
+            Name name = toModel(() -> new Name(readString(buffer)));
+            Phone phone = toModel(() -> new Phone(readString(buffer)));
+            Email email = toModel(() -> new Email(readString(buffer)));
+            Detail detail = toModel(() -> new Detail(readString(buffer)));
+            Company company = companies[readVarInt(buffer)];
+            int personTagCount = readVarInt(buffer);
+            Set<Tag> personTags = new HashSet<>();
+            for (int j = 0; j < personTagCount; j++) {
+                personTags.add(tags[readVarInt(buffer)]);
+            }
+
+            Person person = new Person(name, phone, email, company, detail, personTags);
+            if (!identityKeys.add(person.getIdentityKey())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Creates a model object, reporting a violated data constraint as an {@code IllegalValueException}.
+     */
+    private static <T> T toModel(ModelFactory<T> factory) throws IOException, IllegalValueException {
+        try {
+            return factory.create();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_TRUNCATED);
+    }
+
+    /**
+     * Creates a model object from data read from a snapshot.
+     */
+    @FunctionalInterface
+    private interface ModelFactory<T> {
+        T create() throws IOException;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is kept beside the JSON data file, which remains the format for interchange: the JSON file is
+ * imported when there is no snapshot or it has been modified since the snapshot was written, and saving to any
+ * other file writes JSON.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+
+    private final Path jsonFilePath;
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} whose snapshot is kept beside {@code jsonFilePath}.
+     */
+    public BinaryAddressBookStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getBinaryFilePath(jsonFilePath);
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept beside {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading the snapshot imports the JSON data file instead if that is newer. Any other file is read according to
+     * its contents, as either a binary snapshot or JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath) && isJsonNewer()) {
+            logger.info("Importing contact book from " + jsonFilePath);
+            return jsonStorage.readAddressBook(jsonFilePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(filePath);
+            if (!BinaryAddressBookFormat.isSnapshot(bytes)) {
+                return jsonStorage.readAddressBook(filePath);
+            }
+            return Optional.of(BinaryAddressBookFormat.read(bytes));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Any file other than the snapshot is written as JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        FileUtil.writeAtomically(filePath, out -> BinaryAddressBookFormat.write(addressBook, out));
+    }
+
+    private boolean isJsonNewer() throws DataLoadingException {
+        if (!Files.exists(jsonFilePath)) {
+            return false;
+        }
+        if (!Files.exists(filePath)) {
+            return true;
+        }
+        try {
+            return Files.getLastModifiedTime(jsonFilePath).compareTo(Files.getLastModifiedTime(filePath)) > 0;
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes a {@link Person} as a compact sequence of length-prefixed strings.
+ * Decoded persons are validated the same way as persons read from JSON.
+ */
+class BinaryPersonCodec {
+
+    private BinaryPersonCodec() {}
+
+    /**
+     * Writes {@code person} to {@code out}.
+     */
+    public static void write(DataOutput out, Person person) throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getCompany().value);
+        out.writeUTF(person.getDetail().value);
+        out.writeShort(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #write(DataOutput, Person)} from {@code in}.
+     *
+     * @throws IOException if {@code in} ends early or could not be read.
+     * @throws IllegalValueException if the decoded person violates any data constraints.
+     */
+    public static Person read(DataInput in) throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        String phone = in.readUTF();
+        String email = in.readUTF();
+        String company = in.readUTF();
+        String detail = in.readUTF();
+        int tagCount = in.readUnsignedShort();
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(in.readUTF()));
+        }
+        return new JsonAdaptedPerson(name, phone, email, company, detail, tags).toModelType();
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeLog;
+
+/**
+ * Represents a storage for {@link seedu.address.model.ChangeLog}.
+ */
+public interface ChangeLogStorage {
+
+    /**
+     * Returns the file path of the change log file.
+     */
+    Path getChangeLogFilePath();
+
+    /**
+     * Returns the change log from storage.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if the loading of data from the change log file failed.
+     */
+    Optional<ChangeLog> readChangeLog() throws DataLoadingException;
+
+    /**
+     * Saves the given {@link seedu.address.model.ChangeLog} to the storage.
+     * @param changeLog cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveChangeLog(ChangeLog changeLog) throws IOException;
+
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A lock on a data file, held by the one FastCard instance that may change it.
+ * <p>
+ * The lock is taken on a separate lock file beside the data file, so that the data file itself can still be replaced
+ * while it is locked. It is an operating system lock, so it is released when the instance holding it exits, even if
+ * it does not exit normally. Instances that cannot take the lock open the contact book as read-only followers.
+ */
+public class DataFileLock implements Closeable {
+
+    public static final String LOCK_SUFFIX = ".lock";
+
+    private final FileChannel channel;
+    private final FileLock lock;
+
+    private DataFileLock(FileChannel channel, FileLock lock) {
+        this.channel = channel;
+        this.lock = lock;
+    }
+
+    /**
+     * Returns the path of the lock file for the data file at {@code dataFilePath}.
+     */
+    public static Path getLockFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + LOCK_SUFFIX);
+    }
+
+    /**
+     * Takes the lock on the data file at {@code dataFilePath}, or returns an empty {@code Optional} if another
+     * instance holds it.
+     *
+     * @throws IOException if the lock file could not be created or locked.
+     */
+    public static Optional<DataFileLock> tryAcquire(Path dataFilePath) throws IOException {
+        Path lockFilePath = getLockFilePath(dataFilePath);
+        FileUtil.createParentDirsOfFile(lockFilePath);
+        FileChannel channel = FileChannel.open(lockFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return Optional.of(new DataFileLock(channel, lock));
+            }
+        } catch (OverlappingFileLockException e) {
+            // held by another instance in this process
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        channel.close();
+        return Optional.empty();
+    }
+
+    public boolean isHeld() {
+        return lock.isValid();
+    }
+
+    /**
+     * Releases the lock. The lock file is left in place, as deleting it could let two instances lock different files.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            lock.release();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,561 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that saves changes to the contact book as an append-only journal.
+ * The data file holds a JSON snapshot of the contact book, and {@code <data file>.journal} holds the insertions,
+ * replacements and deletions made since that snapshot was written, each with its own checksum. Saving appends only
+ * the records for what changed; once the journal grows past a threshold it is folded into a fresh snapshot in the
+ * background. Reading replays the journal over the snapshot and discards a partially written final record.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String NEXT_SUFFIX = ".next";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final int JOURNAL_MAGIC = 0x46434A31; // "FCJ1"
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+    private static final int MIN_RECORDS_BEFORE_SNAPSHOT = 16;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte OP_SET = 1;
+    private static final byte OP_INSERT = 2;
+    private static final byte OP_DELETE = 3;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path nextSnapshotPath;
+    private final Path nextJournalPath;
+    private final long compactionThresholdBytes;
+    private final JsonAddressBookStorage jsonStorage;
+    private final ExecutorService compactor;
+
+    // The fields below are guarded by this object's lock.
+    private List<Person> persistedPersons;
+    private FileChannel journal;
+    private long generation;
+    private boolean isCompactionScheduled;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts the journal once it exceeds
+     * {@code compactionThresholdBytes}.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = siblingOf(filePath, JOURNAL_SUFFIX);
+        this.nextSnapshotPath = siblingOf(filePath, NEXT_SUFFIX);
+        this.nextJournalPath = siblingOf(journalPath, NEXT_SUFFIX);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.jsonStorage = new JsonAddressBookStorage(filePath);
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fastcard-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal over it.
+     * Any other file is read as a plain JSON contact book.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        closeJournal();
+        persistedPersons = null;
+        try {
+            recoverInterruptedCompaction();
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = jsonStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        AddressBook addressBook = new AddressBook();
+        try {
+            replayJournal(checksumOf(filePath), persons);
+            addressBook.setPersons(persons);
+        } catch (IOException ioe) {
+            logger.warning("Error replaying journal " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Journal " + journalPath + " contains duplicate persons");
+            throw new DataLoadingException(dpe);
+        }
+        persistedPersons = persons;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Appends the changes between the last saved contact book and {@code addressBook} to the journal, or writes a
+     * full snapshot if there is no journal to append to or the changes are too extensive.
+     * Saving to any other file writes a plain JSON contact book.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<byte[]> records = persistedPersons == null || journal == null
+                ? null
+                : diff(persistedPersons, persons);
+        if (records == null) {
+            writeSnapshot(persons);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        appendRecords(records);
+        persistedPersons = persons;
+        if (journal.size() > compactionThresholdBytes && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compactInBackground);
+        }
+    }
+
+    /**
+     * Folds the journal into a fresh snapshot. Saves may continue while the snapshot is written; the records they
+     * append are carried over to the new journal.
+     */
+    public void compact() throws IOException {
+        List<Person> persons;
+        long journalPosition;
+        long startGeneration;
+        synchronized (this) {
+            if (persistedPersons == null || journal == null) {
+                return;
+            }
+            persons = new ArrayList<>(persistedPersons);
+            journalPosition = journal.size();
+            startGeneration = generation;
+        }
+
+        long snapshotChecksum = writeChecksummedSnapshot(nextSnapshotPath, persons);
+
+        synchronized (this) {
+            if (generation != startGeneration || journal == null) {
+                // A full snapshot was written in the meantime, which supersedes this one.
+                Files.deleteIfExists(nextSnapshotPath);
+                return;
+            }
+
+            ByteBuffer tail = ByteBuffer.allocate(Math.toIntExact(journal.size() - journalPosition));
+            while (tail.hasRemaining()) {
+                if (journal.read(tail, journalPosition + tail.position()) < 0) {
+                    throw new EOFException("Journal " + journalPath + " ended unexpectedly");
+                }
+            }
+            FileUtil.writeAtomically(nextJournalPath, out -> {
+                out.write(header(snapshotChecksum));
+                out.write(tail.array());
+            });
+
+            closeJournal();
+            moveReplacing(nextSnapshotPath, filePath);
+            moveReplacing(nextJournalPath, journalPath);
+            openJournal();
+            generation++;
+        }
+        logger.info("Compacted journal " + journalPath);
+    }
+
+    /**
+     * Stops the background compactor, waiting for a running compaction to finish, and closes the journal.
+     */
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closeJournal();
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code persons} as a fresh snapshot and starts an empty journal for it.
+     */
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        closeJournal();
+        persistedPersons = null;
+        long snapshotChecksum = writeChecksummedSnapshot(filePath, persons);
+        FileUtil.writeAtomically(journalPath, out -> out.write(header(snapshotChecksum)));
+        openJournal();
+        persistedPersons = persons;
+        generation++;
+    }
+
+    private static long writeChecksummedSnapshot(Path path, List<Person> persons) throws IOException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(path, out -> JsonAddressBookWriter.write(addressBook,
+                new CheckedOutputStream(out, checksum)));
+        return checksum.getValue();
+    }
+
+    /**
+     * Appends {@code records} to the journal. If the append fails partway, the journal is cut back to where it was,
+     * so that the records of later saves are not written after a torn one that replaying would stop at.
+     */
+    private void appendRecords(List<byte[]> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (byte[] record : records) {
+            bytes.write(record);
+        }
+        long startLength = journal.size();
+        try {
+            writeToJournal(journal, ByteBuffer.wrap(bytes.toByteArray()));
+            journal.force(false);
+        } catch (IOException ioe) {
+            rollBackJournal(startLength);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes all of {@code buffer} to {@code journal} at its current position.
+     */
+    void writeToJournal(FileChannel journal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+    }
+
+    /**
+     * Truncates the journal back to {@code length} after a failed append. If that fails too, the journal is closed,
+     * so that the next save writes a fresh snapshot instead of appending.
+     */
+    private void rollBackJournal(long length) {
+        try {
+            journal.truncate(length);
+            journal.position(length);
+            journal.force(true);
+        } catch (IOException e) {
+            logger.warning("Failed to roll back journal " + journalPath + ": " + StringUtil.getDetails(e));
+            closeJournal();
+            persistedPersons = null;
+        }
+    }
+
+    /**
+     * Replays the journal records over {@code persons}. A journal written for a different snapshot is discarded,
+     * and the journal is truncated at the first record that is incomplete or fails its checksum.
+     */
+    private void replayJournal(long snapshotChecksum, List<Person> persons) throws IOException {
+        if (!Files.exists(journalPath) || !hasHeader(journalPath, snapshotChecksum)) {
+            FileUtil.writeAtomically(journalPath, out -> out.write(header(snapshotChecksum)));
+            openJournal();
+            return;
+        }
+
+        long validLength = HEADER_SIZE;
+        int replayed = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(journalPath), READ_BUFFER_SIZE))) {
+            in.skipBytes(HEADER_SIZE);
+            while (true) {
+                byte[] payload = readRecord(in);
+                if (payload == null || !applyRecord(payload, persons)) {
+                    break;
+                }
+                validLength += RECORD_HEADER_SIZE + payload.length;
+                replayed++;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            if (channel.size() > validLength) {
+                logger.warning("Discarding " + (channel.size() - validLength) + " trailing bytes of journal "
+                        + journalPath);
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+        }
+        logger.info("Replayed " + replayed + " journal record(s) from " + journalPath);
+        openJournal();
+    }
+
+    /**
+     * Returns the payload of the next record in {@code in}, or {@code null} if there is no complete, intact record.
+     */
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int expectedChecksum = in.readInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 checksum = new CRC32();
+            checksum.update(payload);
+            return (int) checksum.getValue() == expectedChecksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Applies the record in {@code payload} to {@code persons}.
+     *
+     * @return false if the record does not describe a valid change.
+     */
+    private static boolean applyRecord(byte[] payload, List<Person> persons) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        try {
+            byte op = in.readByte();
+            int index = in.readInt();
+            switch (op) {
+            case OP_SET:
+                if (index < 0 || index >= persons.size()) {
+                    return false;
+                }
+                persons.set(index, BinaryPersonCodec.read(in));
+                return true;
+            case OP_INSERT:
+                if (index < 0 || index > persons.size()) {
+                    return false;
+                }
+                persons.add(index, BinaryPersonCodec.read(in));
+                return true;
+            case OP_DELETE:
+                if (index < 0 || index >= persons.size()) {
+                    return false;
+                }
+                persons.remove(index);
+                return true;
+            default:
+                return false;
+            }
+        } catch (IOException | IllegalValueException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the journal records that turn {@code oldPersons} into {@code newPersons}, or {@code null} if
+     * writing a fresh snapshot would be cheaper.
+     */
+    private static List<byte[]> diff(List<Person> oldPersons, List<Person> newPersons) throws IOException {
+        int oldSize = oldPersons.size();
+        int newSize = newPersons.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && oldPersons.get(prefix).equals(newPersons.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < Math.min(oldSize, newSize) - prefix
+                && oldPersons.get(oldSize - 1 - suffix).equals(newPersons.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        int oldChanged = oldSize - prefix - suffix;
+        int newChanged = newSize - prefix - suffix;
+        int overlap = Math.min(oldChanged, newChanged);
+        int maxRecords = Math.max(MIN_RECORDS_BEFORE_SNAPSHOT, newSize / 2);
+        if (Math.max(oldChanged, newChanged) > maxRecords) {
+            return null;
+        }
+
+        List<byte[]> records = new ArrayList<>();
+        for (int i = prefix; i < prefix + overlap; i++) {
+            if (!oldPersons.get(i).equals(newPersons.get(i))) {
+                records.add(record(OP_SET, i, newPersons.get(i)));
+            }
+        }
+        for (int i = prefix + overlap; i < prefix + newChanged; i++) {
+            records.add(record(OP_INSERT, i, newPersons.get(i)));
+        }
+        for (int i = overlap; i < oldChanged; i++) {
+            records.add(record(OP_DELETE, prefix + overlap, null));
+        }
+        return records;
+    }
+
+    private static byte[] record(byte op, int index, Person person) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeByte(op);
+        payload.writeInt(index);
+        if (person != null) {
+            BinaryPersonCodec.write(payload, person);
+        }
+        payload.flush();
+
+        byte[] payloadArray = payloadBytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(payloadArray);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payloadArray.length);
+        record.putInt(payloadArray.length);
+        record.putInt((int) checksum.getValue());
+        record.put(payloadArray);
+        return record.array();
+    }
+
+    private static byte[] header(long snapshotChecksum) {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(JOURNAL_MAGIC).putLong(snapshotChecksum).array();
+    }
+
+    /**
+     * Completes or discards a compaction that was interrupted before both of its files were moved into place.
+     */
+    private void recoverInterruptedCompaction() throws IOException {
+        Files.deleteIfExists(nextSnapshotPath);
+        if (!Files.exists(nextJournalPath)) {
+            return;
+        }
+        if (Files.exists(filePath) && hasHeader(nextJournalPath, checksumOf(filePath))) {
+            moveReplacing(nextJournalPath, journalPath);
+        } else {
+            Files.delete(nextJournalPath);
+        }
+    }
+
+    private static boolean hasHeader(Path journalFile, long snapshotChecksum) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(journalFile))) {
+            return in.readInt() == JOURNAL_MAGIC && in.readLong() == snapshotChecksum;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), checksum)) {
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            while (in.read(buffer) >= 0) {
+                // read to the end to update the checksum
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private void openJournal() throws IOException {
+        journal = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal.position(journal.size());
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close journal " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+        journal = null;
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path siblingOf(Path file, String suffix) {
+        Path sibling = Paths.get(file.getFileName() + suffix);
+        Path parent = file.getParent();
+        return parent == null ? sibling : parent.resolve(sibling);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeLog;
+
+/**
+ * Jackson-friendly version of {@link ChangeLog.Entry}.
+ */
+class JsonAdaptedChangeLogEntry {
+
+    public static final String MISSING_PERSON_MESSAGE = "Change log entry's person is missing!";
+    public static final String MISSING_TIME_MESSAGE = "Change log entry's time is missing!";
+
+    private final JsonAdaptedPerson person;
+    private final boolean deleted;
+    private final long sequence;
+    private final Long timeMillis;
+    private final long addedSequence;
+    private final Long addedMillis;
+
+    /**
+     * Constructs a {@code JsonAdaptedChangeLogEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedChangeLogEntry(@JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("deleted") boolean deleted, @JsonProperty("sequence") long sequence,
+            @JsonProperty("timeMillis") Long timeMillis, @JsonProperty("addedSequence") long addedSequence,
+            @JsonProperty("addedMillis") Long addedMillis) {
+        this.person = person;
+        this.deleted = deleted;
+        this.sequence = sequence;
+        this.timeMillis = timeMillis;
+        this.addedSequence = addedSequence;
+        this.addedMillis = addedMillis;
+    }
+
+    /**
+     * Converts a given {@code ChangeLog.Entry} into this class for Jackson use.
+     */
+    public JsonAdaptedChangeLogEntry(ChangeLog.Entry source) {
+        person = new JsonAdaptedPerson(source.getPerson());
+        deleted = source.isDeleted();
+        sequence = source.getSequence();
+        timeMillis = source.getTime().toEpochMilli();
+        addedSequence = source.getAddedSequence();
+        addedMillis = source.getAddedTime() == null ? null : source.getAddedTime().toEpochMilli();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into the model's {@code ChangeLog.Entry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public ChangeLog.Entry toModelType() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(MISSING_PERSON_MESSAGE);
+        }
+        if (timeMillis == null) {
+            throw new IllegalValueException(MISSING_TIME_MESSAGE);
+        }
+        Instant addedTime = addedMillis == null ? null : Instant.ofEpochMilli(addedMillis);
+        return new ChangeLog.Entry(person.toModelType(), deleted, sequence, Instant.ofEpochMilli(timeMillis),
+                addedSequence, addedTime);
+    }
+}
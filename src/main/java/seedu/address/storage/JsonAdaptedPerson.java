@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -20,6 +22,8 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Persons converted from the model carry a checksum of their fields, so that a person changed in the data file since it
+ * was saved can be told apart from the others. Persons without one are not checked.
  */
 class JsonAdaptedPerson {
 
@@ -31,15 +35,24 @@ class JsonAdaptedPerson {
     private final String company;
     private final String detail;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final String crc;
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no checksum.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String company, String detail,
+            List<JsonAdaptedTag> tags) {
+        this(name, phone, email, company, detail, tags, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and checksum.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("company") String company,
             @JsonProperty("detail") String detail,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+            @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("crc") String crc) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -48,6 +61,7 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        this.crc = crc;
     }
 
     /**
@@ -62,6 +76,41 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        crc = computeChecksum();
+    }
+
+    /**
+     * Returns true if this person has no checksum, or if its checksum matches its fields.
+     */
+    public boolean hasValidChecksum() {
+        return crc == null || crc.equals(computeChecksum());
+    }
+
+    /**
+     * Returns the CRC-32 of the fields of this person, as 8 hexadecimal digits.
+     */
+    private String computeChecksum() {
+        CRC32 checksum = new CRC32();
+        for (String field : new String[] {name, phone, email, company, detail}) {
+            updateChecksum(checksum, field);
+        }
+        for (JsonAdaptedTag tag : tags) {
+            updateChecksum(checksum, tag == null ? null : tag.getTagName());
+        }
+        return String.format("%08x", checksum.getValue());
+    }
+
+    /**
+     * Adds {@code field} to {@code checksum}, followed by a separator so that moving characters between fields changes
+     * the checksum. A missing field is added as a different separator.
+     */
+    private static void updateChecksum(CRC32 checksum, String field) {
+        if (field == null) {
+            checksum.update(1);
+            return;
+        }
+        checksum.update(field.getBytes(StandardCharsets.UTF_8));
+        checksum.update(0);
     }
 
     /**
@@ -107,12 +156,13 @@ class JsonAdaptedPerson {
         }
         final Company modelCompany = new Company(company);
 
-        // Detail is optional, default to empty string if not present (for backward compatibility)
-        final String detailValue = (detail == null) ? "" : detail;
-        if (!Detail.isValidDetail(detailValue)) {
+        if (detail == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Detail.class.getSimpleName()));
+        }
+        if (!Detail.isValidDetail(detail)) {
             throw new IllegalValueException(Detail.MESSAGE_CONSTRAINTS);
         }
-        final Detail modelDetail = new Detail(detailValue);
+        final Detail modelDetail = new Detail(detail);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelCompany, modelDetail, modelTags);
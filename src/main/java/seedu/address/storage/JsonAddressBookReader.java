@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.RecoveryReport.DamagedRecord;
+
+/**
+ * Reads a contact book in the format written by {@link JsonSerializableAddressBook} as a stream.
+ * Parsed persons are converted to the model in parallel chunks while reading continues, so neither the raw file nor
+ * the full graph of {@link JsonAdaptedPerson} objects is held in memory.
+ * <p>
+ * Persons in data files of earlier versions are upgraded by {@link JsonPersonMigrator} one at a time as they are read,
+ * so upgrading a file takes no more memory than reading a current one. The upgraded file is written by the next save.
+ * <p>
+ * Persons whose checksums do not match their fields, such as those edited by hand, are loaded as they are with a
+ * warning, and given new checksums by the next save. If the file is damaged so badly that it is no longer valid JSON,
+ * {@link #recover} can still load the intact persons from it.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Contact book data must be a JSON object.";
+    public static final String MESSAGE_PERSONS_NOT_AN_ARRAY = "Contact book \"persons\" must be a JSON array.";
+    public static final String MESSAGE_NULL_PERSON = "Persons list contains an empty entry.";
+    public static final String MESSAGE_VERSION_NOT_AN_INT = "Contact book \"version\" must be a whole number.";
+    public static final String MESSAGE_VERSION_AFTER_PERSONS = "Contact book \"version\" must come before \"persons\".";
+    public static final String MESSAGE_NOT_RECOVERABLE = "No persons list in the layout written by FastCard was found.";
+
+    public static final String REASON_NOT_JSON = "it is not valid JSON";
+    public static final String REASON_TRUNCATED = "the data file ends within it";
+    public static final String REASON_DUPLICATE = "it is a duplicate of an earlier contact";
+
+    /** The number of upgraded persons between progress reports. */
+    static final int PROGRESS_INTERVAL = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private static final String VERSION_FIELD = "version";
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the contact book in {@code in}. {@code in} is closed when reading ends.
+     *
+     * @throws IOException if {@code in} could not be read, does not contain valid JSON or is of a newer data version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        int version = JsonPersonMigrator.LEGACY_VERSION;
+        boolean hasReadPersons = false;
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException(MESSAGE_NOT_AN_OBJECT);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (VERSION_FIELD.equals(fieldName)) {
+                    version = readVersion(parser, hasReadPersons);
+                    continue;
+                }
+                if (!PERSONS_FIELD.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                hasReadPersons = true;
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new IOException(MESSAGE_PERSONS_NOT_AN_ARRAY);
+                }
+                readPersons(parser, version, converter);
+            }
+        }
+
+        return converter.finish();
+    }
+
+    /**
+     * Reads the data version that {@code parser} is positioned at.
+     *
+     * @throws IOException if the version is not a whole number, comes after the persons or cannot be read.
+     */
+    private static int readVersion(JsonParser parser, boolean hasReadPersons) throws IOException {
+        if (hasReadPersons) {
+            throw new IOException(MESSAGE_VERSION_AFTER_PERSONS);
+        }
+        if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new IOException(MESSAGE_VERSION_NOT_AN_INT);
+        }
+        int version = parser.getIntValue();
+        JsonPersonMigrator.checkVersion(version);
+        return version;
+    }
+
+    /**
+     * Passes the elements of the persons array that {@code parser} is positioned at to {@code converter},
+     * upgrading them from {@code version} first if it is not current.
+     */
+    private static void readPersons(JsonParser parser, int version, ParallelPersonConverter converter)
+            throws IOException, IllegalValueException {
+        boolean needsMigration = version != JsonPersonMigrator.CURRENT_VERSION;
+        int position = 0;
+        int migratedCount = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            position++;
+            if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                throw new IllegalValueException(MESSAGE_NULL_PERSON);
+            }
+
+            JsonAdaptedPerson person;
+            if (needsMigration) {
+                JsonNode node = parser.readValueAsTree();
+                JsonPersonMigrator.migrate(node, version);
+                person = parser.getCodec().treeToValue(node, JsonAdaptedPerson.class);
+                migratedCount++;
+                if (migratedCount % PROGRESS_INTERVAL == 0) {
+                    logger.info("Upgraded " + migratedCount + " persons from data version " + version + " so far");
+                }
+            } else {
+                person = parser.readValueAs(JsonAdaptedPerson.class);
+            }
+
+            warnIfChecksumMismatched(person, position);
+            converter.add(person, position);
+        }
+        if (needsMigration) {
+            logger.info("Upgraded " + migratedCount + " persons from data version " + version + " to "
+                    + JsonPersonMigrator.CURRENT_VERSION + "; the data file will be upgraded when it is next saved");
+        }
+    }
+
+    /**
+     * Logs a warning if the checksum of {@code person}, at {@code position} in the persons list, does not match its
+     * fields. The person is still loaded, since it may have been edited by hand.
+     */
+    private static void warnIfChecksumMismatched(JsonAdaptedPerson person, int position) {
+        if (!person.hasValidChecksum()) {
+            logger.warning("Person " + position + " in the persons list was changed since FastCard saved it; "
+                    + "loading it as it is");
+        }
+    }
+
+    /**
+     * Reads the intact persons from the text of a contact book in {@code reader} that is not valid JSON, adding the
+     * damaged ones to {@code damagedRecords}. {@code reader} is closed when reading ends.
+     * <p>
+     * The persons are found by the layout that FastCard writes them in, with each person starting on a line of its
+     * own, so a damaged person only takes the persons sharing its lines with it.
+     *
+     * @throws IOException if {@code reader} could not be read, the persons list could not be found in it, or it is of
+     *     a newer data version.
+     */
+    public static AddressBook recover(BufferedReader reader, List<DamagedRecord> damagedRecords) throws IOException {
+        AddressBook addressBook = new AddressBook();
+        int version = JsonPersonMigrator.LEGACY_VERSION;
+        boolean hasFoundPersons = false;
+        int position = 0;
+        StringBuilder record = null;
+
+        try (reader) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (record == null) {
+                    if (!hasFoundPersons && trimmed.startsWith("\"" + VERSION_FIELD + "\"")) {
+                        version = parseVersionLine(trimmed, version);
+                    } else if (!hasFoundPersons && trimmed.startsWith("\"" + PERSONS_FIELD + "\"")) {
+                        hasFoundPersons = true;
+                        record = trimmed.endsWith("[ {") ? new StringBuilder("{\n") : null;
+                    }
+                    continue;
+                }
+
+                boolean isLastRecord = trimmed.equals("} ]");
+                if (isLastRecord || trimmed.equals("}, {")) {
+                    position++;
+                    recoverPerson(record.append('}').toString(), position, version, addressBook, damagedRecords);
+                    record = isLastRecord ? null : new StringBuilder("{\n");
+                    continue;
+                }
+                record.append(line).append('\n');
+            }
+        }
+
+        if (!hasFoundPersons) {
+            throw new IOException(MESSAGE_NOT_RECOVERABLE);
+        }
+        if (record != null) {
+            damagedRecords.add(new DamagedRecord(position + 1, REASON_TRUNCATED, record.toString()));
+        }
+        logger.info("Recovered " + addressBook.getPersonList().size() + " persons, " + damagedRecords.size()
+                + " damaged");
+        return addressBook;
+    }
+
+    /**
+     * Returns the data version on the line {@code trimmed}, or {@code defaultVersion} if it cannot be read.
+     *
+     * @throws IOException if the version is newer than this version of FastCard can read.
+     */
+    private static int parseVersionLine(String trimmed, int defaultVersion) throws IOException {
+        String value = trimmed.substring(trimmed.indexOf(':') + 1).replace(",", "").trim();
+        int version;
+        try {
+            version = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultVersion;
+        }
+        JsonPersonMigrator.checkVersion(version);
+        return version;
+    }
+
+    /**
+     * Adds the person in {@code text}, at {@code position} in a data file of {@code version}, to {@code addressBook},
+     * or to {@code damagedRecords} if it cannot be loaded.
+     */
+    private static void recoverPerson(String text, int position, int version, AddressBook addressBook,
+            List<DamagedRecord> damagedRecords) {
+        JsonAdaptedPerson adaptedPerson;
+        try {
+            JsonNode node = JsonUtil.fromJsonString(text, JsonNode.class);
+            JsonPersonMigrator.migrate(node, version);
+            adaptedPerson = JsonUtil.fromJsonString(node.toString(), JsonAdaptedPerson.class);
+        } catch (IOException e) {
+            damagedRecords.add(new DamagedRecord(position, REASON_NOT_JSON, text));
+            return;
+        }
+        warnIfChecksumMismatched(adaptedPerson, position);
+
+        Person person;
+        try {
+            person = adaptedPerson.toModelType();
+        } catch (IllegalValueException e) {
+            damagedRecords.add(new DamagedRecord(position, e.getMessage(), text));
+            return;
+        }
+        if (addressBook.hasPerson(person)) {
+            damagedRecords.add(new DamagedRecord(position, REASON_DUPLICATE, text));
+            return;
+        }
+        addressBook.addPerson(person);
+    }
+}
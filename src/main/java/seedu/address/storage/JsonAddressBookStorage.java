@@ -2,35 +2,88 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.RecoveryReport.DamagedRecord;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Files may optionally be saved compressed; compressed files are recognised when they are read.
+ * <p>
+ * If the data file is no longer valid JSON, the persons in it that cannot be parsed or are invalid do not stop the rest
+ * from loading. They are appended to a quarantine file beside the data file, once each, and reported to the recovery
+ * handler. Persons whose checksums do not match are loaded as edited.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String QUARANTINE_SUFFIX = ".quarantine";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final String QUARANTINE_HEADER_FORMAT = "// Contact %1$d of %2$s, quarantined at %3$s: %4$s%n";
+
+    private final boolean isCompressed;
     private Path filePath;
+    private volatile Consumer<RecoveryReport> recoveryHandler = report -> {};
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves compressed files if {@code isCompressed} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the quarantine file for the data file at {@code dataFilePath}.
+     */
+    public static Path getQuarantineFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + QUARANTINE_SUFFIX);
+    }
+
+    /**
+     * Sets the handler told about each data file that is loaded without its damaged persons.
+     * It is called on the thread that read the data file.
+     */
+    public void setRecoveryHandler(Consumer<RecoveryReport> recoveryHandler) {
+        this.recoveryHandler = requireNonNull(recoveryHandler);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,17 +98,86 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        List<DamagedRecord> damagedRecords = new ArrayList<>();
+        AddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            addressBook = readOrRecover(filePath, damagedRecords);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (!damagedRecords.isEmpty()) {
+            Path quarantineFilePath = getQuarantineFilePath(filePath);
+            try {
+                quarantine(filePath, quarantineFilePath, damagedRecords);
+            } catch (IOException ioe) {
+                logger.warning("Error quarantining damaged persons of " + filePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            RecoveryReport report = new RecoveryReport(filePath, quarantineFilePath,
+                    addressBook.getPersonList().size(), damagedRecords);
+            logger.warning(report.toString());
+            recoveryHandler.accept(report);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}. If the file is no longer valid JSON, the intact persons are recovered
+     * from its text instead, and the damaged ones are added to {@code damagedRecords}.
+     */
+    private static AddressBook readOrRecover(Path filePath, List<DamagedRecord> damagedRecords)
+            throws IOException, IllegalValueException {
+        try (InputStream in = openDataFile(filePath)) {
+            return JsonAddressBookReader.read(in);
+        } catch (JsonProcessingException jpe) {
+            logger.warning("Data file " + filePath + " is not valid JSON, recovering its intact persons: "
+                    + jpe.getOriginalMessage());
+            try {
+                return JsonAddressBookReader.recover(
+                        new BufferedReader(new InputStreamReader(openDataFile(filePath), UTF_8)), damagedRecords);
+            } catch (IOException recoveryError) {
+                jpe.addSuppressed(recoveryError);
+                throw jpe;
+            }
+        }
+    }
+
+    private static InputStream openDataFile(Path filePath) throws IOException {
+        return CompressionUtil.decompressIfCompressed(
+                new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE));
+    }
+
+    /**
+     * Appends {@code damagedRecords} from the data file at {@code filePath} to the quarantine file at
+     * {@code quarantineFilePath}, each under a comment saying where it came from and why it was not loaded.
+     * Records already in the quarantine file, from an earlier read of the same damaged data file, are not added again.
+     */
+    private static void quarantine(Path filePath, Path quarantineFilePath, List<DamagedRecord> damagedRecords)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(quarantineFilePath);
+        String quarantined = Files.exists(quarantineFilePath) ? Files.readString(quarantineFilePath, UTF_8) : "";
+        Instant now = Instant.now();
+        try (Writer writer = Files.newBufferedWriter(quarantineFilePath, UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (DamagedRecord record : damagedRecords) {
+                if (quarantined.contains(record.getText())) {
+                    continue;
+                }
+                writer.write(String.format(QUARANTINE_HEADER_FORMAT, record.getPosition(), filePath.getFileName(),
+                        now, record.getReason()));
+                writer.write(record.getText());
+                writer.write(System.lineSeparator());
+            }
         }
     }
 
@@ -73,8 +195,12 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.ContentWriter writer = out -> JsonAddressBookWriter.write(addressBook, out);
+        if (isCompressed) {
+            FileUtil.writeAtomically(filePath, out -> CompressionUtil.writeCompressed(out, writer));
+        } else {
+            FileUtil.writeAtomically(filePath, writer);
+        }
     }
 
 }
@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes a contact book in the format read by {@link JsonAddressBookReader} as a stream.
+ * Persons are converted and written one at a time, so the JSON text of the whole book is never held in memory.
+ * The data version is written before the persons, so that readers know how to read them before they reach them.
+ */
+class JsonAddressBookWriter {
+
+    private static final String VERSION_FIELD = "version";
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}. {@code out} is flushed but not closed.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField(VERSION_FIELD, JsonPersonMigrator.CURRENT_VERSION);
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a backup.
+ * It lists the hashes of the chunks that make up the backed up contact book, in order.
+ */
+class JsonBackupManifest {
+
+    private final long createdMillis;
+    private final int personCount;
+    private final long newBytes;
+    private final List<String> chunks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonBackupManifest} with the given details and chunk hashes.
+     */
+    @JsonCreator
+    public JsonBackupManifest(@JsonProperty("createdMillis") long createdMillis,
+            @JsonProperty("personCount") int personCount, @JsonProperty("newBytes") long newBytes,
+            @JsonProperty("chunks") List<String> chunks) {
+        this.createdMillis = createdMillis;
+        this.personCount = personCount;
+        this.newBytes = newBytes;
+        if (chunks != null) {
+            this.chunks.addAll(chunks);
+        }
+    }
+
+    public long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public long getNewBytes() {
+        return newBytes;
+    }
+
+    public List<String> getChunks() {
+        return chunks;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ChangeLog;
+
+/**
+ * A class to access the change log of a contact book stored in the hard disk as a json file beside its data file.
+ */
+public class JsonChangeLogStorage implements ChangeLogStorage {
+
+    public static final String CHANGE_LOG_SUFFIX = ".changes.json";
+
+    private static final String SEQUENCE_FIELD = "sequence";
+    private static final String EXPORT_WATERMARK_FIELD = "exportWatermark";
+    private static final String ENTRIES_FIELD = "entries";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonChangeLogStorage.class);
+
+    private final Path filePath;
+
+    public JsonChangeLogStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the change log of the contact book in the data file at {@code dataFilePath}.
+     */
+    public static Path getChangeLogFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + CHANGE_LOG_SUFFIX);
+    }
+
+    @Override
+    public Path getChangeLogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ChangeLog> readChangeLog() throws DataLoadingException {
+        Optional<JsonSerializableChangeLog> jsonChangeLog =
+                JsonUtil.readJsonFile(filePath, JsonSerializableChangeLog.class);
+        if (jsonChangeLog.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonChangeLog.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveChangeLog(ChangeLog changeLog) throws IOException {
+        requireNonNull(changeLog);
+        FileUtil.writeAtomically(filePath, out -> write(changeLog, out));
+    }
+
+    /**
+     * Writes {@code changeLog} to {@code out} as a stream, in the format read by {@link #readChangeLog()}.
+     * Entries are converted and written one at a time, so the JSON text of the whole log is never held in memory.
+     */
+    private static void write(ChangeLog changeLog, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField(SEQUENCE_FIELD, changeLog.getSequence());
+            generator.writeNumberField(EXPORT_WATERMARK_FIELD, changeLog.getExportWatermark());
+            generator.writeArrayFieldStart(ENTRIES_FIELD);
+            for (ChangeLog.Entry entry : changeLog.getEntries()) {
+                generator.writeObject(new JsonAdaptedChangeLogEntry(entry));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+}
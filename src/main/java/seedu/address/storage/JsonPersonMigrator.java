@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Upgrades persons read from JSON data files of earlier versions to the current version, one person at a time.
+ * <p>
+ * The version of a data file is given by its {@code "version"} field, which comes before its persons. Files written
+ * before the field was added have none, and are {@link #LEGACY_VERSION}. Each change to the format of a person in the
+ * data file adds a step here that upgrades a person of the previous version, and increases {@link #CURRENT_VERSION}.
+ */
+class JsonPersonMigrator {
+
+    /** The version of data files written before data files recorded their version. */
+    public static final int LEGACY_VERSION = 1;
+    public static final int CURRENT_VERSION = 2;
+
+    public static final String MESSAGE_NEWER_VERSION = "The data file has data version %1$d, but this version of "
+            + "FastCard can only read up to data version " + CURRENT_VERSION + ".";
+    public static final String MESSAGE_INVALID_VERSION = "The data file has an invalid data version %1$d.";
+
+    private static final String DETAIL_FIELD = "detail";
+
+    /** The step at index {@code i} upgrades a person from version {@code i + 1} to version {@code i + 2}. */
+    private static final List<Consumer<ObjectNode>> STEPS = List.of(
+            JsonPersonMigrator::addMissingDetail);
+
+    private JsonPersonMigrator() {}
+
+    /**
+     * Checks that persons of data files with {@code version} can be read.
+     *
+     * @throws IOException if {@code version} is invalid or newer than {@link #CURRENT_VERSION}.
+     */
+    public static void checkVersion(int version) throws IOException {
+        if (version > CURRENT_VERSION) {
+            throw new IOException(String.format(MESSAGE_NEWER_VERSION, version));
+        }
+        if (version < LEGACY_VERSION) {
+            throw new IOException(String.format(MESSAGE_INVALID_VERSION, version));
+        }
+    }
+
+    /**
+     * Upgrades {@code person}, read from a data file with {@code version}, to the current version in place.
+     * Values that are not JSON objects are left for conversion to reject.
+     */
+    public static void migrate(JsonNode person, int version) {
+        if (!person.isObject()) {
+            return;
+        }
+        for (int step = version - LEGACY_VERSION; step < STEPS.size(); step++) {
+            STEPS.get(step).accept((ObjectNode) person);
+        }
+    }
+
+    /**
+     * Version 2 made the detail field required. It was optional and taken to be empty when missing.
+     */
+    private static void addMissingDetail(ObjectNode person) {
+        if (!person.has(DETAIL_FIELD) || person.get(DETAIL_FIELD).isNull()) {
+            person.put(DETAIL_FIELD, "");
+        }
+    }
+}
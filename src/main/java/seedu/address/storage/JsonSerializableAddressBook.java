@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,14 +19,20 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_CURRENT_VERSION = "Contact book has data version %1$d instead of "
+            + JsonPersonMigrator.CURRENT_VERSION + ".";
 
+    private final int version;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given data version and persons.
+     * A missing version is taken to be {@link JsonPersonMigrator#LEGACY_VERSION}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.version = (version == null) ? JsonPersonMigrator.LEGACY_VERSION : version;
         this.persons.addAll(persons);
     }
 
@@ -37,24 +42,22 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        version = JsonPersonMigrator.CURRENT_VERSION;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
     /**
      * Converts this contact book into the model's {@code AddressBook} object.
+     * Only contact books of the current data version can be converted. Data files of earlier versions are read
+     * through {@link JsonAddressBookReader}, which upgrades their persons as they are read.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated or the data version is not current.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        if (version != JsonPersonMigrator.CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_CURRENT_VERSION, version));
         }
-        return addressBook;
+        return ParallelPersonConverter.convertAll(persons);
     }
 
 }
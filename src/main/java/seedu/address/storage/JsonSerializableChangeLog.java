@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeLog;
+
+/**
+ * A change log that is serializable to JSON format.
+ */
+class JsonSerializableChangeLog {
+
+    public static final String MESSAGE_DUPLICATE_ENTRY = "Change log has more than one entry for the same contact.";
+    public static final String MESSAGE_INVALID_SEQUENCE = "Change log has an entry newer than its latest change.";
+
+    private final long sequence;
+    private final long exportWatermark;
+    private final List<JsonAdaptedChangeLogEntry> entries = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableChangeLog} with the given sequence, watermark and entries.
+     */
+    @JsonCreator
+    public JsonSerializableChangeLog(@JsonProperty("sequence") long sequence,
+            @JsonProperty("exportWatermark") long exportWatermark,
+            @JsonProperty("entries") List<JsonAdaptedChangeLogEntry> entries) {
+        this.sequence = sequence;
+        this.exportWatermark = exportWatermark;
+        if (entries != null) {
+            this.entries.addAll(entries);
+        }
+    }
+
+    /**
+     * Converts a given {@code ChangeLog} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableChangeLog}.
+     */
+    public JsonSerializableChangeLog(ChangeLog source) {
+        sequence = source.getSequence();
+        exportWatermark = source.getExportWatermark();
+        source.getEntries().forEach(entry -> entries.add(new JsonAdaptedChangeLogEntry(entry)));
+    }
+
+    /**
+     * Converts this change log into the model's {@code ChangeLog} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ChangeLog toModelType() throws IllegalValueException {
+        List<ChangeLog.Entry> modelEntries = new ArrayList<>();
+        Set<String> identityKeys = new HashSet<>();
+        for (JsonAdaptedChangeLogEntry jsonEntry : entries) {
+            ChangeLog.Entry entry = jsonEntry.toModelType();
+            if (!identityKeys.add(entry.getPerson().getIdentityKey())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ENTRY);
+            }
+            if (entry.getSequence() > sequence) {
+                throw new IllegalValueException(MESSAGE_INVALID_SEQUENCE);
+            }
+            modelEntries.add(entry);
+        }
+        return new ChangeLog(sequence, exportWatermark, modelEntries);
+    }
+
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded contact book.
+ * It lists the file currently holding each shard, so replacing the manifest switches every shard at once.
+ */
+class JsonShardManifest {
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given generation and shard file names.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+}
@@ -0,0 +1,388 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that keeps the contact book in a page file indexed by B+trees.
+ * <p>
+ * Each person is stored under its rank, which records its position in the contact book and is kept across saves
+ * where possible, so saving changes only the pages holding persons that were added, edited, moved or deleted.
+ * Secondary trees index persons by identity key, by name and by email, and can be searched without reading the rest
+ * of the contact book. They are updated in the same transaction as the persons, so they are loaded as they are rather
+ * than rebuilt.
+ * <p>
+ * To find what changed, a save compares the contact book with the persons last read or written, which are kept in
+ * memory along with their ranks. So although the page file is read through a cache of a bounded number of pages, this
+ * storage still holds a second reference to every person, and its heap use grows with the contact book.
+ * <p>
+ * The page file is kept beside the JSON data file, which is imported when there is no page file yet. Saving to any
+ * other file writes JSON.
+ */
+public class PagedAddressBookStorage implements AddressBookStorage, Closeable {
+
+    public static final String PAGED_EXTENSION = ".db";
+    public static final int DEFAULT_CACHE_PAGES = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedAddressBookStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final int PRIMARY_ROOT = 0;
+    private static final int IDENTITY_ROOT = 1;
+    private static final int NAME_ROOT = 2;
+    private static final int EMAIL_ROOT = 3;
+    private static final byte[] EMPTY = new byte[0];
+    private static final byte KEY_SEPARATOR = 0;
+
+    private final Path jsonFilePath;
+    private final Path filePath;
+    private final int cachePages;
+    private final JsonAddressBookStorage jsonStorage;
+
+    // The fields below are guarded by this object's lock. The persisted persons and ranks describe the page file as
+    // last read or written.
+    private Pager pager;
+    private List<Person> persistedPersons;
+    private long[] persistedRanks;
+
+    public PagedAddressBookStorage(Path jsonFilePath) {
+        this(jsonFilePath, DEFAULT_CACHE_PAGES);
+    }
+
+    /**
+     * Creates a {@code PagedAddressBookStorage} whose page file is kept beside {@code jsonFilePath} and that caches
+     * at most {@code cachePages} pages in memory.
+     */
+    public PagedAddressBookStorage(Path jsonFilePath, int cachePages) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getPagedFilePath(jsonFilePath);
+        this.cachePages = cachePages;
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+    }
+
+    /**
+     * Returns the path of the page file kept beside {@code jsonFilePath}.
+     */
+    public static Path getPagedFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + PAGED_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the contact book from the page file, importing the JSON data file if there is no page file yet.
+     * Any other file is read as a plain JSON contact book.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        persistedPersons = null;
+        persistedRanks = null;
+        if (!Files.exists(filePath)) {
+            logger.info("No page file found, importing contact book from " + jsonFilePath);
+            return jsonStorage.readAddressBook(jsonFilePath);
+        }
+
+        try {
+            return Optional.of(readPersons());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from page file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Updates the entries of the persons that changed since the last read or save, in a single transaction.
+     * Saving to any other file writes a plain JSON contact book.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (persistedPersons == null && Files.exists(filePath)) {
+            loadPersistedState();
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        long[] ranks = persistedPersons == null
+                ? PersonRanks.evenlySpaced(persons.size())
+                : PersonRanks.assign(persistedPersons, persistedRanks, persons);
+        Map<Long, Person> oldByRank = persistedPersons == null
+                ? new HashMap<>()
+                : byRank(persistedPersons, persistedRanks);
+        Map<Long, Person> newByRank = byRank(persons, ranks);
+
+        if (persistedPersons == null) {
+            // The existing page file could not be read, so it is replaced.
+            discardPageFile();
+        }
+        Pager pager = getPager();
+        try {
+            for (Map.Entry<Long, Person> entry : oldByRank.entrySet()) {
+                if (!entry.getValue().equals(newByRank.get(entry.getKey()))) {
+                    removeEntry(pager, entry.getKey(), entry.getValue());
+                }
+            }
+            for (Map.Entry<Long, Person> entry : newByRank.entrySet()) {
+                if (!entry.getValue().equals(oldByRank.get(entry.getKey()))) {
+                    putEntry(pager, entry.getKey(), entry.getValue());
+                }
+            }
+            pager.commit();
+        } catch (IOException | RuntimeException e) {
+            rollbackQuietly(pager);
+            persistedPersons = null;
+            persistedRanks = null;
+            throw e;
+        }
+
+        persistedPersons = persons;
+        persistedRanks = ranks;
+    }
+
+    /**
+     * Returns the saved persons whose names start with {@code prefix}, ignoring case, in name order.
+     * Only the pages of the matching entries are read.
+     */
+    public synchronized List<Person> findPersonsByNamePrefix(String prefix) throws IOException, IllegalValueException {
+        requireNonNull(prefix);
+        return findByIndex(NAME_ROOT, prefix.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the saved persons with {@code email}, ignoring case.
+     * Only the pages of the matching entries are read.
+     */
+    public synchronized List<Person> findPersonsByEmail(String email) throws IOException, IllegalValueException {
+        requireNonNull(email);
+        return findByIndex(EMAIL_ROOT, indexKeyPrefix(email));
+    }
+
+    /**
+     * Returns the saved person with identity key {@code identityKey}, if there is one.
+     */
+    public synchronized Optional<Person> findPersonByIdentityKey(String identityKey)
+            throws IOException, IllegalValueException {
+        requireNonNull(identityKey);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        Pager pager = getPager();
+        byte[] rank = new BPlusTree(pager, IDENTITY_ROOT).get(identityKey.getBytes(StandardCharsets.UTF_8));
+        return rank == null ? Optional.empty() : Optional.of(readPerson(pager, rank));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (pager != null) {
+            pager.close();
+            pager = null;
+        }
+    }
+
+    private Pager getPager() throws IOException {
+        if (pager == null) {
+            pager = Pager.open(filePath, cachePages);
+        }
+        return pager;
+    }
+
+    private void discardPageFile() throws IOException {
+        close();
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(filePath.resolveSibling(filePath.getFileName() + Pager.JOURNAL_SUFFIX));
+    }
+
+    private void loadPersistedState() {
+        try {
+            readPersons();
+        } catch (IllegalValueException | IOException e) {
+            // The existing entries are unreadable, so they are all rewritten.
+            logger.warning("Rewriting unreadable page file " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reads every person in rank order and records them as the persisted state.
+     */
+    private AddressBook readPersons() throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<Long> ranks = new ArrayList<>();
+        Set<String> identityKeys = new HashSet<>();
+        IllegalValueException[] invalid = new IllegalValueException[1];
+        new BPlusTree(getPager(), PRIMARY_ROOT).scan(null, (key, value) -> {
+            try {
+                Person person = decode(value);
+                if (!identityKeys.add(person.getIdentityKey())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                persons.add(person);
+                ranks.add(ByteBuffer.wrap(key).getLong());
+                return true;
+            } catch (IllegalValueException ive) {
+                invalid[0] = ive;
+                return false;
+            }
+        });
+        if (invalid[0] != null) {
+            throw invalid[0];
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        persistedPersons = persons;
+        persistedRanks = ranks.stream().mapToLong(Long::longValue).toArray();
+        return addressBook;
+    }
+
+    private List<Person> findByIndex(int root, byte[] prefix) throws IOException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return List.of();
+        }
+        Pager pager = getPager();
+        List<byte[]> ranks = new ArrayList<>();
+        new BPlusTree(pager, root).scan(prefix, (key, value) -> {
+            if (!startsWith(key, prefix)) {
+                return false;
+            }
+            ranks.add(Arrays.copyOfRange(key, key.length - Long.BYTES, key.length));
+            return true;
+        });
+
+        List<Person> persons = new ArrayList<>(ranks.size());
+        for (byte[] rank : ranks) {
+            persons.add(readPerson(pager, rank));
+        }
+        return persons;
+    }
+
+    private static Person readPerson(Pager pager, byte[] rank) throws IOException, IllegalValueException {
+        byte[] record = new BPlusTree(pager, PRIMARY_ROOT).get(rank);
+        if (record == null) {
+            throw new IOException("Index entry refers to a missing person.");
+        }
+        return decode(record);
+    }
+
+    private static void putEntry(Pager pager, long rank, Person person) throws IOException {
+        byte[] rankKey = rankKey(rank);
+        new BPlusTree(pager, PRIMARY_ROOT).put(rankKey, encode(person));
+        new BPlusTree(pager, IDENTITY_ROOT).put(person.getIdentityKey().getBytes(StandardCharsets.UTF_8), rankKey);
+        new BPlusTree(pager, NAME_ROOT).put(indexKey(person.getName().fullName, rank), EMPTY);
+        new BPlusTree(pager, EMAIL_ROOT).put(indexKey(person.getEmail().value, rank), EMPTY);
+    }
+
+    private static void removeEntry(Pager pager, long rank, Person person) throws IOException {
+        new BPlusTree(pager, PRIMARY_ROOT).remove(rankKey(rank));
+        new BPlusTree(pager, IDENTITY_ROOT).remove(person.getIdentityKey().getBytes(StandardCharsets.UTF_8));
+        new BPlusTree(pager, NAME_ROOT).remove(indexKey(person.getName().fullName, rank));
+        new BPlusTree(pager, EMAIL_ROOT).remove(indexKey(person.getEmail().value, rank));
+    }
+
+    private static Map<Long, Person> byRank(List<Person> persons, long[] ranks) {
+        Map<Long, Person> map = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            map.put(ranks[i], persons.get(i));
+        }
+        return map;
+    }
+
+    private static byte[] rankKey(long rank) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(rank).array();
+    }
+
+    /**
+     * Returns the key of a name or email index entry, which is the lowercased value followed by the person's rank so
+     * that persons sharing a value have distinct entries.
+     */
+    private static byte[] indexKey(String value, long rank) {
+        byte[] prefix = indexKeyPrefix(value);
+        return ByteBuffer.allocate(prefix.length + Long.BYTES).put(prefix).putLong(rank).array();
+    }
+
+    private static byte[] indexKeyPrefix(String value) {
+        byte[] bytes = value.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        byte[] prefix = Arrays.copyOf(bytes, bytes.length + 1);
+        prefix[bytes.length] = KEY_SEPARATOR;
+        return prefix;
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static byte[] encode(Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryPersonCodec.write(new DataOutputStream(bytes), person);
+        return bytes.toByteArray();
+    }
+
+    private static Person decode(byte[] record) throws IOException, IllegalValueException {
+        return BinaryPersonCodec.read(new DataInputStream(new ByteArrayInputStream(record)));
+    }
+
+    private static void rollbackQuietly(Pager pager) {
+        try {
+            pager.rollback();
+        } catch (IOException e) {
+            logger.warning("Failed to roll back page file " + pager.getFilePath() + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Gives transactional access to a file of fixed-size pages through a buffer pool.
+ * <p>
+ * Pages are cached in a pool that holds at most a fixed number of pages, evicting the least recently used page when
+ * it is full. A page changed since the last commit is written back to the file only when it is evicted or at the
+ * next commit. Before a page that existed at the last commit is first changed, its original contents are appended to
+ * a rollback journal, which is forced to disk before any changed page is written to the file. If a transaction is
+ * interrupted, opening the file again restores the original pages from the journal.
+ * <p>
+ * Page 0 holds a header with the number of pages, the head of the list of free pages and a few root page slots for
+ * the structures stored in the file. Callers must not keep a page buffer across calls to the pager, since the page
+ * may be evicted in the meantime.
+ */
+class Pager implements Closeable {
+
+    public static final int PAGE_SIZE = 4096;
+    public static final int ROOT_SLOT_COUNT = 8;
+
+    public static final String JOURNAL_SUFFIX = "-journal";
+    public static final String MESSAGE_NOT_A_PAGE_FILE = "File is not a FastCard page file.";
+
+    private static final int MAGIC = 0x46435047; // "FCPG"
+    private static final int JOURNAL_MAGIC = 0x4643524A; // "FCRJ"
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int PAGE_COUNT_OFFSET = 8;
+    private static final int FREE_LIST_OFFSET = 12;
+    private static final int ROOTS_OFFSET = 16;
+    private static final int JOURNAL_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int JOURNAL_ENTRY_SIZE = Integer.BYTES + PAGE_SIZE + Integer.BYTES;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final FileChannel file;
+    private final int capacity;
+    private final LinkedHashMap<Integer, Frame> frames = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Integer> journaledPages = new HashSet<>();
+
+    private FileChannel journal;
+    private boolean isJournalSynced;
+    private int committedPageCount;
+
+    private Pager(Path filePath, FileChannel file, int capacity) {
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+        this.file = file;
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    /**
+     * Opens the page file at {@code filePath}, creating it if it does not exist, with a pool of at most
+     * {@code capacity} pages. An interrupted transaction found in the rollback journal is rolled back.
+     *
+     * @throws IOException if the file could not be opened or is not a page file.
+     */
+    public static Pager open(Path filePath, int capacity) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        FileChannel file = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        Pager pager = new Pager(filePath, file, capacity);
+        try {
+            pager.recover();
+            pager.initialize();
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+        return pager;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public int getPageCount() throws IOException {
+        return read(0).getInt(PAGE_COUNT_OFFSET);
+    }
+
+    /**
+     * Returns the page stored in root slot {@code slot}, or 0 if the slot is empty.
+     */
+    public int getRoot(int slot) throws IOException {
+        return read(0).getInt(rootOffset(slot));
+    }
+
+    public void setRoot(int slot, int pageId) throws IOException {
+        write(0).putInt(rootOffset(slot), pageId);
+    }
+
+    /**
+     * Returns the contents of page {@code pageId} for reading. The buffer must not be modified.
+     */
+    public ByteBuffer read(int pageId) throws IOException {
+        return frame(pageId).buffer;
+    }
+
+    /**
+     * Returns the contents of page {@code pageId} for changing, journaling its original contents first if needed.
+     */
+    public ByteBuffer write(int pageId) throws IOException {
+        Frame frame = frame(pageId);
+        if (pageId < committedPageCount && journaledPages.add(pageId)) {
+            appendToJournal(pageId, frame.buffer);
+        }
+        frame.isDirty = true;
+        return frame.buffer;
+    }
+
+    /**
+     * Returns a zeroed page for a new use, reusing a free page if there is one.
+     */
+    public int allocate() throws IOException {
+        int freePage = read(0).getInt(FREE_LIST_OFFSET);
+        int pageId;
+        if (freePage != 0) {
+            int nextFreePage = read(freePage).getInt(0);
+            write(0).putInt(FREE_LIST_OFFSET, nextFreePage);
+            pageId = freePage;
+        } else {
+            pageId = getPageCount();
+            write(0).putInt(PAGE_COUNT_OFFSET, pageId + 1);
+        }
+
+        Arrays.fill(write(pageId).array(), (byte) 0);
+        return pageId;
+    }
+
+    /**
+     * Returns page {@code pageId} to the list of free pages.
+     */
+    public void free(int pageId) throws IOException {
+        int freePage = read(0).getInt(FREE_LIST_OFFSET);
+        write(pageId).putInt(0, freePage);
+        write(0).putInt(FREE_LIST_OFFSET, pageId);
+    }
+
+    /**
+     * Makes every change since the last commit durable.
+     */
+    public void commit() throws IOException {
+        boolean hasChanges = false;
+        for (Frame frame : frames.values()) {
+            hasChanges |= frame.isDirty;
+        }
+        if (!hasChanges && journal == null) {
+            return;
+        }
+
+        syncJournal();
+        for (Map.Entry<Integer, Frame> entry : frames.entrySet()) {
+            if (entry.getValue().isDirty) {
+                writeToFile(entry.getKey(), entry.getValue());
+            }
+        }
+        file.force(true);
+        deleteJournal();
+        committedPageCount = getPageCount();
+    }
+
+    /**
+     * Discards every change since the last commit.
+     */
+    public void rollback() throws IOException {
+        frames.clear();
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        recover();
+        committedPageCount = getPageCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    int getCachedPageCount() {
+        return frames.size();
+    }
+
+    private void initialize() throws IOException {
+        if (file.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(PAGE_COUNT_OFFSET, 1);
+            writeFully(file, header, 0);
+            file.force(true);
+        } else if (file.size() < PAGE_SIZE) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+
+        ByteBuffer header = read(0);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+        committedPageCount = header.getInt(PAGE_COUNT_OFFSET);
+    }
+
+    private Frame frame(int pageId) throws IOException {
+        Frame frame = frames.get(pageId);
+        if (frame != null) {
+            return frame;
+        }
+
+        frame = new Frame(ByteBuffer.allocate(PAGE_SIZE));
+        long position = (long) pageId * PAGE_SIZE;
+        if (position < file.size()) {
+            readFully(file, frame.buffer, position);
+        }
+        frame.buffer.clear();
+        frames.put(pageId, frame);
+        evictExcess(pageId);
+        return frame;
+    }
+
+    /**
+     * Evicts the least recently used pages, other than {@code keptPageId}, until the pool is within capacity.
+     */
+    private void evictExcess(int keptPageId) throws IOException {
+        Iterator<Map.Entry<Integer, Frame>> eldest = frames.entrySet().iterator();
+        while (frames.size() > capacity && eldest.hasNext()) {
+            Map.Entry<Integer, Frame> entry = eldest.next();
+            if (entry.getKey() == keptPageId || entry.getKey() == 0) {
+                continue;
+            }
+            if (entry.getValue().isDirty) {
+                syncJournal();
+                writeToFile(entry.getKey(), entry.getValue());
+            }
+            eldest.remove();
+        }
+    }
+
+    private void writeToFile(int pageId, Frame frame) throws IOException {
+        writeFully(file, frame.buffer.duplicate(), (long) pageId * PAGE_SIZE);
+        frame.isDirty = false;
+    }
+
+    private void appendToJournal(int pageId, ByteBuffer page) throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+            header.putInt(JOURNAL_MAGIC).putInt(committedPageCount).flip();
+            writeFully(journal, header, 0);
+        }
+
+        ByteBuffer entry = ByteBuffer.allocate(JOURNAL_ENTRY_SIZE);
+        entry.putInt(pageId);
+        entry.put(page.duplicate().clear());
+        CRC32 checksum = new CRC32();
+        checksum.update(entry.array(), 0, Integer.BYTES + PAGE_SIZE);
+        entry.putInt((int) checksum.getValue());
+        entry.flip();
+        writeFully(journal, entry, journal.size());
+        isJournalSynced = false;
+    }
+
+    private void syncJournal() throws IOException {
+        if (journal != null && !isJournalSynced) {
+            journal.force(true);
+            isJournalSynced = true;
+        }
+    }
+
+    private void deleteJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        Files.deleteIfExists(journalPath);
+        journaledPages.clear();
+    }
+
+    /**
+     * Restores the pages saved in the rollback journal, if there is one, and deletes it.
+     * A partially written journal entry is ignored, since its page was not changed in the file before the entry was
+     * forced to disk.
+     */
+    private void recover() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try (FileChannel saved = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+            if (saved.size() >= JOURNAL_HEADER_SIZE) {
+                readFully(saved, header, 0);
+            }
+            if (saved.size() >= JOURNAL_HEADER_SIZE && header.getInt(0) == JOURNAL_MAGIC) {
+                int originalPageCount = header.getInt(Integer.BYTES);
+                ByteBuffer entry = ByteBuffer.allocate(JOURNAL_ENTRY_SIZE);
+                for (long position = JOURNAL_HEADER_SIZE; position + JOURNAL_ENTRY_SIZE <= saved.size();
+                        position += JOURNAL_ENTRY_SIZE) {
+                    entry.clear();
+                    readFully(saved, entry, position);
+                    CRC32 checksum = new CRC32();
+                    checksum.update(entry.array(), 0, Integer.BYTES + PAGE_SIZE);
+                    if ((int) checksum.getValue() != entry.getInt(Integer.BYTES + PAGE_SIZE)) {
+                        break;
+                    }
+                    writeFully(file, ByteBuffer.wrap(entry.array(), Integer.BYTES, PAGE_SIZE),
+                            (long) entry.getInt(0) * PAGE_SIZE);
+                }
+                file.truncate((long) originalPageCount * PAGE_SIZE);
+                file.force(true);
+            }
+        }
+        Files.delete(journalPath);
+        journaledPages.clear();
+    }
+
+    private static int rootOffset(int slot) {
+        if (slot < 0 || slot >= ROOT_SLOT_COUNT) {
+            throw new IndexOutOfBoundsException("Root slot: " + slot);
+        }
+        return ROOTS_OFFSET + slot * Integer.BYTES;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position - buffer.position();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+    }
+
+    /**
+     * A page held in the buffer pool.
+     */
+    private static class Frame {
+        private final ByteBuffer buffer;
+        private boolean isDirty;
+
+        Frame(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Converts a sequence of {@link JsonAdaptedPerson} into the model's persons, validating chunks of them in parallel.
+ * <p>
+ * Persons are added one at a time as they are read, and each full chunk is handed to an executor straight away, so
+ * conversion overlaps with reading and only the persons of unconverted chunks are held in their JSON form.
+ * {@link #finish()} returns a contact book of the persons in the order they were added, whose own duplicate check is
+ * the only one made, so that the identity key of each person is computed once. Every invalid person found is reported
+ * together, rather than only the first, by its position in the data file.
+ */
+class ParallelPersonConverter {
+
+    public static final int CHUNK_SIZE = 256;
+    public static final int MAX_REPORTED_ERRORS = 10;
+
+    public static final String MESSAGE_INVALID_PERSONS = "%1$d person(s) could not be loaded:%2$s";
+    public static final String MESSAGE_INVALID_PERSON = "\nPerson %1$d: %2$s";
+    public static final String MESSAGE_MORE_INVALID_PERSONS = "\n... and %1$d more";
+
+    private final Executor executor;
+    private final List<CompletableFuture<Chunk>> chunks = new ArrayList<>();
+    private List<JsonAdaptedPerson> pending = new ArrayList<>();
+    private List<Integer> pendingPositions = new ArrayList<>();
+    private int addedCount;
+
+    /**
+     * Creates a converter that converts chunks in the common fork-join pool.
+     */
+    public ParallelPersonConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a converter that converts chunks with {@code executor}.
+     */
+    public ParallelPersonConverter(Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Converts every person in {@code jsonAdaptedPersons}, in order, into a contact book.
+     *
+     * @throws IllegalValueException if any person is invalid or there are duplicate persons.
+     */
+    public static AddressBook convertAll(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        jsonAdaptedPersons.forEach(converter::add);
+        return converter.finish();
+    }
+
+    /**
+     * Adds the next person to convert, reported as the person after those already added if it is invalid.
+     */
+    public void add(JsonAdaptedPerson jsonAdaptedPerson) {
+        add(jsonAdaptedPerson, addedCount + 1);
+    }
+
+    /**
+     * Adds the next person to convert, reported as person {@code position} if it is invalid.
+     */
+    public void add(JsonAdaptedPerson jsonAdaptedPerson, int position) {
+        requireNonNull(jsonAdaptedPerson);
+        pending.add(jsonAdaptedPerson);
+        pendingPositions.add(position);
+        addedCount++;
+        if (pending.size() == CHUNK_SIZE) {
+            Chunk chunk = new Chunk(pending, pendingPositions);
+            chunks.add(CompletableFuture.supplyAsync(chunk::convert, executor));
+            pending = new ArrayList<>();
+            pendingPositions = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Waits for every person added to be converted, and returns a contact book of them in the order they were added.
+     *
+     * @throws IllegalValueException if any person is invalid or there are duplicate persons.
+     */
+    public AddressBook finish() throws IllegalValueException {
+        // The last, partial chunk is converted on this thread while the others finish.
+        Chunk last = new Chunk(pending, pendingPositions).convert();
+        pending = new ArrayList<>();
+        pendingPositions = new ArrayList<>();
+
+        List<Person> persons = new ArrayList<>(addedCount);
+        List<String> errors = new ArrayList<>();
+        for (CompletableFuture<Chunk> future : chunks) {
+            Chunk chunk = join(future);
+            persons.addAll(chunk.persons);
+            errors.addAll(chunk.errors);
+        }
+        persons.addAll(last.persons);
+        errors.addAll(last.errors);
+        chunks.clear();
+        addedCount = 0;
+
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(report(errors));
+        }
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    private static Chunk join(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static String report(List<String> errors) {
+        StringBuilder details = new StringBuilder();
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(details::append);
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            details.append(String.format(MESSAGE_MORE_INVALID_PERSONS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return String.format(MESSAGE_INVALID_PERSONS, errors.size(), details);
+    }
+
+    /**
+     * A run of consecutive persons added, with the position each is reported at.
+     * Once converted, it holds the valid persons and a description of each invalid one.
+     */
+    private static class Chunk {
+        private final List<JsonAdaptedPerson> jsonAdaptedPersons;
+        private final List<Integer> positions;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        Chunk(List<JsonAdaptedPerson> jsonAdaptedPersons, List<Integer> positions) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+            this.positions = positions;
+        }
+
+        Chunk convert() {
+            for (int i = 0; i < jsonAdaptedPersons.size(); i++) {
+                try {
+                    persons.add(jsonAdaptedPersons.get(i).toModelType());
+                } catch (IllegalValueException ive) {
+                    errors.add(String.format(MESSAGE_INVALID_PERSON, positions.get(i), ive.getMessage()));
+                }
+            }
+            jsonAdaptedPersons.clear();
+            return this;
+        }
+    }
+}
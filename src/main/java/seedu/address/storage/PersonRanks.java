@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Assigns ranks that record the order of persons in a stored contact book.
+ * Ranks are spaced apart so that a person can usually be added or moved without changing the ranks of the others,
+ * which lets storages that keep persons apart from one another write only what changed.
+ */
+class PersonRanks {
+
+    private static final long RANK_GAP = 1L << 20;
+
+    private PersonRanks() {}
+
+    /**
+     * Returns ranks for {@code persons} that keep the ranks of as many previously saved persons as possible.
+     * Persons are matched by identity key, and new or moved persons get ranks between those of their neighbours.
+     * If there is no room between the neighbours, every person is ranked afresh.
+     */
+    public static long[] assign(List<Person> oldPersons, long[] oldRanks, List<Person> persons) {
+        Map<String, Long> rankByKey = new HashMap<>();
+        for (int i = 0; i < oldPersons.size(); i++) {
+            rankByKey.put(oldPersons.get(i).getIdentityKey(), oldRanks[i]);
+        }
+
+        int size = persons.size();
+        long[] ranks = new long[size];
+        boolean[] isKept = new boolean[size];
+        long lastKept = 0;
+        for (int i = 0; i < size; i++) {
+            Long oldRank = rankByKey.get(persons.get(i).getIdentityKey());
+            if (oldRank != null && oldRank > lastKept) {
+                ranks[i] = oldRank;
+                isKept[i] = true;
+                lastKept = oldRank;
+            }
+        }
+
+        int start = 0;
+        while (start < size) {
+            if (isKept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < size && !isKept[end]) {
+                end++;
+            }
+            int count = end - start;
+            long low = start == 0 ? 0 : ranks[start - 1];
+            long high = end == size ? low + (count + 1) * RANK_GAP : ranks[end];
+            long step = (high - low) / (count + 1);
+            if (step == 0) {
+                return evenlySpaced(size);
+            }
+            for (int i = start; i < end; i++) {
+                ranks[i] = low + step * (i - start + 1);
+            }
+            start = end;
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns evenly spaced ranks for {@code size} persons.
+     */
+    public static long[] evenlySpaced(int size) {
+        long[] ranks = new long[size];
+        Arrays.setAll(ranks, i -> (i + 1) * RANK_GAP);
+        return ranks;
+    }
+}
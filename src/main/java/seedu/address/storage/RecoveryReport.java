@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Describes a data file that was loaded without its damaged persons, which were moved to a quarantine file.
+ */
+public class RecoveryReport {
+
+    public static final String MESSAGE_RECOVERED = "Part of the data file %1$s was damaged. %2$d contact(s) were "
+            + "loaded, and %3$d damaged contact(s) were moved to %4$s: %5$s";
+    public static final String MESSAGE_DAMAGED_RECORD = "contact %1$d (%2$s)";
+
+    /** The number of damaged persons described in full by {@link #toString()}. */
+    static final int MAX_LISTED_RECORDS = 5;
+
+    private final Path dataFilePath;
+    private final Path quarantineFilePath;
+    private final int recoveredCount;
+    private final List<DamagedRecord> damagedRecords;
+
+    /**
+     * Creates a report of {@code recoveredCount} persons loaded from the data file at {@code dataFilePath}, and of
+     * the {@code damagedRecords} moved to the quarantine file at {@code quarantineFilePath}.
+     */
+    public RecoveryReport(Path dataFilePath, Path quarantineFilePath, int recoveredCount,
+            List<DamagedRecord> damagedRecords) {
+        requireAllNonNull(dataFilePath, quarantineFilePath, damagedRecords);
+        this.dataFilePath = dataFilePath;
+        this.quarantineFilePath = quarantineFilePath;
+        this.recoveredCount = recoveredCount;
+        this.damagedRecords = Collections.unmodifiableList(new ArrayList<>(damagedRecords));
+    }
+
+    public Path getDataFilePath() {
+        return dataFilePath;
+    }
+
+    public Path getQuarantineFilePath() {
+        return quarantineFilePath;
+    }
+
+    public int getRecoveredCount() {
+        return recoveredCount;
+    }
+
+    public List<DamagedRecord> getDamagedRecords() {
+        return damagedRecords;
+    }
+
+    @Override
+    public String toString() {
+        String listed = damagedRecords.stream()
+                .limit(MAX_LISTED_RECORDS)
+                .map(record -> String.format(MESSAGE_DAMAGED_RECORD, record.getPosition(), record.getReason()))
+                .collect(Collectors.joining(", "));
+        if (damagedRecords.size() > MAX_LISTED_RECORDS) {
+            listed += " and " + (damagedRecords.size() - MAX_LISTED_RECORDS) + " more";
+        }
+        return String.format(MESSAGE_RECOVERED, dataFilePath.getFileName(), recoveredCount, damagedRecords.size(),
+                quarantineFilePath.getFileName(), listed);
+    }
+
+    /**
+     * A person in a data file that could not be loaded, kept as the text it was read from.
+     */
+    public static class DamagedRecord {
+
+        private final int position;
+        private final String reason;
+        private final String text;
+
+        /**
+         * Creates a record of the damaged person at {@code position} in the data file, counting from 1.
+         */
+        public DamagedRecord(int position, String reason, String text) {
+            requireAllNonNull(reason, text);
+            this.position = position;
+            this.reason = reason;
+            this.text = text;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+}
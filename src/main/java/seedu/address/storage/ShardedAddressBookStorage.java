@@ -0,0 +1,388 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that splits the contact book across a fixed number of shard files.
+ * Each person is placed in a shard by the hash of its identity key, and saving rewrites only the shards whose persons
+ * changed. Changed shards are written to new files, and a manifest listing the current file of every shard is then
+ * replaced atomically, so a save is never seen half-done.
+ * <p>
+ * Each person is stored with a rank that records its position in the contact book. Ranks are spaced apart so that a
+ * person can usually be added or moved without changing the ranks, and therefore the shards, of the others.
+ * <p>
+ * The shards are kept in the directory {@code <data file name>-shards} beside the JSON data file. The JSON data file
+ * is imported when there is no manifest, and saving to any other file writes JSON.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    public static final String MESSAGE_MALFORMED_SHARD = "Shard %1$s is malformed.";
+    public static final String MESSAGE_MISSING_SHARD = "Shard %1$s listed in the manifest does not exist.";
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SHARD_DIRECTORY_SUFFIX = "-shards";
+    private static final String SHARD_FILE_NAME_FORMAT = "shard-%1$02d-%2$d.json";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String ENTRIES_FIELD = "entries";
+    private static final String RANK_FIELD = "rank";
+    private static final String PERSON_FIELD = "person";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path jsonFilePath;
+    private final Path shardDirectory;
+    private final Path manifestPath;
+    private final int defaultShardCount;
+    private final JsonAddressBookStorage jsonStorage;
+
+    // The fields below are guarded by this object's lock, and describe the shards as last read or written.
+    private List<Person> persistedPersons;
+    private long[] persistedRanks;
+    private List<List<Entry>> persistedShards;
+    private List<String> shardFileNames;
+    private long generation;
+
+    public ShardedAddressBookStorage(Path jsonFilePath) {
+        this(jsonFilePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that splits a new contact book into {@code shardCount} shards.
+     * An existing contact book keeps the number of shards it was created with.
+     */
+    public ShardedAddressBookStorage(Path jsonFilePath, int shardCount) {
+        requireNonNull(jsonFilePath);
+        checkArgument(shardCount > 0, "Shard count must be positive");
+        this.jsonFilePath = jsonFilePath;
+        this.shardDirectory = getShardDirectory(jsonFilePath);
+        this.manifestPath = shardDirectory.resolve(MANIFEST_FILE_NAME);
+        this.defaultShardCount = shardCount;
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+    }
+
+    /**
+     * Returns the directory holding the shards of the contact book whose JSON data file is {@code jsonFilePath}.
+     */
+    public static Path getShardDirectory(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the manifest, which is the file that exists whenever the sharded contact book does.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestPath);
+    }
+
+    /**
+     * Reads the sharded contact book, importing the JSON data file if there is no manifest yet.
+     * Any other file is read as a plain JSON contact book.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(manifestPath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        resetPersistedState();
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            logger.info("No shard manifest found, importing contact book from " + jsonFilePath);
+            return jsonStorage.readAddressBook(jsonFilePath);
+        }
+
+        try {
+            return Optional.of(readShards(manifest.get()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + shardDirectory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading shards of " + shardDirectory + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestPath);
+    }
+
+    /**
+     * Writes the shards whose persons changed since the last read or save, then switches the manifest over to them.
+     * Saving to any other file writes a plain JSON contact book.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(manifestPath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (persistedShards == null && Files.exists(manifestPath)) {
+            loadPersistedState();
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        long[] ranks = persistedPersons == null
+                ? PersonRanks.evenlySpaced(persons.size())
+                : PersonRanks.assign(persistedPersons, persistedRanks, persons);
+        int shardCount = shardFileNames == null ? defaultShardCount : shardFileNames.size();
+        List<List<Entry>> shards = partition(persons, ranks, shardCount);
+
+        long nextGeneration = generation + 1;
+        List<String> nextFileNames = new ArrayList<>();
+        List<Path> replacedFiles = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            boolean isDirty = persistedShards == null || !persistedShards.get(i).equals(shards.get(i));
+            if (!isDirty) {
+                nextFileNames.add(shardFileNames.get(i));
+                continue;
+            }
+
+            String fileName = String.format(SHARD_FILE_NAME_FORMAT, i, nextGeneration);
+            List<Entry> entries = shards.get(i);
+            FileUtil.writeAtomically(shardDirectory.resolve(fileName), out -> writeShard(entries, out));
+            nextFileNames.add(fileName);
+            if (shardFileNames != null) {
+                replacedFiles.add(shardDirectory.resolve(shardFileNames.get(i)));
+            }
+        }
+        if (persistedShards != null && replacedFiles.isEmpty()) {
+            return;
+        }
+
+        JsonUtil.saveJsonFile(new JsonShardManifest(nextGeneration, nextFileNames), manifestPath);
+        for (Path replacedFile : replacedFiles) {
+            deleteQuietly(replacedFile);
+        }
+
+        persistedPersons = persons;
+        persistedRanks = ranks;
+        persistedShards = shards;
+        shardFileNames = nextFileNames;
+        generation = nextGeneration;
+    }
+
+    private void loadPersistedState() {
+        try {
+            Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+            if (manifest.isPresent()) {
+                readShards(manifest.get());
+            }
+        } catch (DataLoadingException | IllegalValueException | IOException e) {
+            // The existing shards are unreadable, so they are all rewritten.
+            logger.warning("Rewriting unreadable shards of " + shardDirectory + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reads every shard listed in {@code manifest} and records them as the persisted state.
+     */
+    private AddressBook readShards(JsonShardManifest manifest) throws IOException, IllegalValueException {
+        List<String> fileNames = manifest.getShards();
+        if (fileNames.isEmpty()) {
+            throw new IOException(String.format(MESSAGE_MALFORMED_SHARD, MANIFEST_FILE_NAME));
+        }
+
+        List<List<Entry>> shards = new ArrayList<>();
+        List<Entry> allEntries = new ArrayList<>();
+        for (String fileName : fileNames) {
+            Path shardPath = shardDirectory.resolve(fileName);
+            if (!Files.exists(shardPath)) {
+                throw new IOException(String.format(MESSAGE_MISSING_SHARD, fileName));
+            }
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(shardPath), READ_BUFFER_SIZE)) {
+                List<Entry> entries = readShard(in, fileName);
+                shards.add(entries);
+                allEntries.addAll(entries);
+            }
+        }
+        allEntries.sort(Comparator.comparingLong(entry -> entry.rank));
+
+        List<Person> persons = new ArrayList<>(allEntries.size());
+        long[] ranks = new long[allEntries.size()];
+        Set<String> identityKeys = new HashSet<>();
+        for (int i = 0; i < allEntries.size(); i++) {
+            Entry entry = allEntries.get(i);
+            if (!identityKeys.add(entry.person.getIdentityKey())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(entry.person);
+            ranks[i] = entry.rank;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        persistedPersons = persons;
+        persistedRanks = ranks;
+        persistedShards = partition(persons, ranks, fileNames.size());
+        shardFileNames = new ArrayList<>(fileNames);
+        generation = manifest.getGeneration();
+        return addressBook;
+    }
+
+    private void resetPersistedState() {
+        persistedPersons = null;
+        persistedRanks = null;
+        persistedShards = null;
+        shardFileNames = null;
+        generation = 0;
+    }
+
+    private static List<List<Entry>> partition(List<Person> persons, long[] ranks, int shardCount) {
+        List<List<Entry>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            shards.get(Math.floorMod(person.getIdentityKey().hashCode(), shardCount)).add(new Entry(ranks[i], person));
+        }
+        return shards;
+    }
+
+    private static void writeShard(List<Entry> entries, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(ENTRIES_FIELD);
+            for (Entry entry : entries) {
+                generator.writeStartObject();
+                generator.writeNumberField(RANK_FIELD, entry.rank);
+                generator.writeFieldName(PERSON_FIELD);
+                generator.writeObject(new JsonAdaptedPerson(entry.person));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static List<Entry> readShard(InputStream in, String fileName) throws IOException, IllegalValueException {
+        IOException malformed = new IOException(String.format(MESSAGE_MALFORMED_SHARD, fileName));
+        List<Entry> entries = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw malformed;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY || !ENTRIES_FIELD.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    entries.add(readEntry(parser, malformed));
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw malformed;
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static Entry readEntry(JsonParser parser, IOException malformed)
+            throws IOException, IllegalValueException {
+        Long rank = null;
+        Person person = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (RANK_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                rank = parser.getLongValue();
+            } else if (PERSON_FIELD.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (rank == null || person == null) {
+            throw malformed;
+        }
+        return new Entry(rank, person);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Failed to delete old shard " + file + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * A person stored in a shard, with its rank in the contact book.
+     */
+    private static class Entry {
+        private final long rank;
+        private final Person person;
+
+        Entry(long rank, Person person) {
+            this.rank = rank;
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            Entry otherEntry = (Entry) other;
+            return rank == otherEntry.rank && person.equals(otherEntry.person);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rank, person);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An {@code AddressBookStorage} that keeps the contact book in an embedded H2 database, a single file with no server.
+ * <p>
+ * Each person is a row of the persons table, keyed by its rank as in {@link PagedAddressBookStorage}, with its tags
+ * in a table of their own. Saving deletes and inserts only the rows of persons that were added, edited, moved or
+ * deleted, in a single transaction. Persons are indexed by identity key, name, email, company and tag, and can be
+ * looked up with the queries below without reading the rest of the contact book.
+ * <p>
+ * The database is kept beside the JSON data file, which is imported when there is no database yet. Saving to any
+ * other file writes JSON. Other instances opening the same database connect to the first one's server.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage, Closeable {
+
+    /** The extension H2 gives to the file of a database. */
+    public static final String SQL_EXTENSION = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:";
+    /**
+     * Lets another instance, such as a read-only one, open the database through the server of the instance that
+     * opened it first, rather than fail on its file lock.
+     */
+    private static final String JDBC_URL_OPTIONS = ";AUTO_SERVER=TRUE";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons ("
+                + "person_rank BIGINT PRIMARY KEY, identity_key VARCHAR NOT NULL, "
+                + "name VARCHAR NOT NULL, name_key VARCHAR NOT NULL, phone VARCHAR NOT NULL, "
+                + "email VARCHAR NOT NULL, email_key VARCHAR NOT NULL, "
+                + "company VARCHAR NOT NULL, company_key VARCHAR NOT NULL, detail VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS person_tags ("
+                + "person_rank BIGINT NOT NULL REFERENCES persons (person_rank) ON DELETE CASCADE, "
+                + "tag VARCHAR NOT NULL, tag_key VARCHAR NOT NULL, PRIMARY KEY (person_rank, tag))",
+        "CREATE UNIQUE INDEX IF NOT EXISTS persons_identity_key ON persons (identity_key)",
+        "CREATE INDEX IF NOT EXISTS persons_name_key ON persons (name_key)",
+        "CREATE INDEX IF NOT EXISTS persons_email_key ON persons (email_key)",
+        "CREATE INDEX IF NOT EXISTS persons_company_key ON persons (company_key)",
+        "CREATE INDEX IF NOT EXISTS person_tags_tag_key ON person_tags (tag_key)"
+    };
+    private static final String SELECT_PERSONS = "SELECT p.person_rank, p.name, p.phone, p.email, p.company, "
+            + "p.detail, t.tag FROM persons p LEFT JOIN person_tags t ON t.person_rank = p.person_rank";
+    private static final String INSERT_PERSON = "INSERT INTO persons (person_rank, identity_key, name, name_key, "
+            + "phone, email, email_key, company, company_key, detail) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO person_tags (person_rank, tag, tag_key) VALUES (?, ?, ?)";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE person_rank = ?";
+
+    private final Path jsonFilePath;
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    // The fields below are guarded by this object's lock. The persisted persons and ranks describe the database as
+    // last read or written.
+    private Connection connection;
+    private List<Person> persistedPersons;
+    private long[] persistedRanks;
+    private int lastSaveChangedRows;
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} whose database is kept beside {@code jsonFilePath}.
+     */
+    public SqlAddressBookStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getSqlFilePath(jsonFilePath);
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+    }
+
+    /**
+     * Returns the path of the database file kept beside {@code jsonFilePath}.
+     */
+    public static Path getSqlFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + SQL_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the contact book from the database, importing the JSON data file if there is no database yet.
+     * Any other file is read as a plain JSON contact book.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        persistedPersons = null;
+        persistedRanks = null;
+        if (!Files.exists(filePath)) {
+            logger.info("No database found, importing contact book from " + jsonFilePath);
+            return jsonStorage.readAddressBook(jsonFilePath);
+        }
+
+        try {
+            return Optional.of(readPersons());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from database " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Deletes and inserts the rows of the persons that changed since the last read or save, in a single transaction.
+     * Saving to any other file writes a plain JSON contact book.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (persistedPersons == null && Files.exists(filePath)) {
+            loadPersistedState();
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        long[] ranks = persistedPersons == null
+                ? PersonRanks.evenlySpaced(persons.size())
+                : PersonRanks.assign(persistedPersons, persistedRanks, persons);
+        Map<Long, Person> oldByRank = persistedPersons == null
+                ? new HashMap<>()
+                : byRank(persistedPersons, persistedRanks);
+        Map<Long, Person> newByRank = byRank(persons, ranks);
+
+        Connection connection = getConnection();
+        int changedRows = 0;
+        try (PreparedStatement deletePerson = connection.prepareStatement(DELETE_PERSON);
+                PreparedStatement insertPerson = connection.prepareStatement(INSERT_PERSON);
+                PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG)) {
+            if (persistedPersons == null) {
+                // The existing rows could not be read, so they are all replaced.
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM persons");
+                }
+            }
+            for (Map.Entry<Long, Person> entry : oldByRank.entrySet()) {
+                if (!entry.getValue().equals(newByRank.get(entry.getKey()))) {
+                    deletePerson.setLong(1, entry.getKey());
+                    deletePerson.addBatch();
+                    changedRows++;
+                }
+            }
+            for (Map.Entry<Long, Person> entry : newByRank.entrySet()) {
+                if (!entry.getValue().equals(oldByRank.get(entry.getKey()))) {
+                    addInsertBatches(insertPerson, insertTag, entry.getKey(), entry.getValue());
+                    changedRows++;
+                }
+            }
+            deletePerson.executeBatch();
+            insertPerson.executeBatch();
+            insertTag.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            rollbackQuietly(connection);
+            persistedPersons = null;
+            persistedRanks = null;
+            throw new IOException("Failed to save contact book to database " + filePath, e);
+        }
+
+        persistedPersons = persons;
+        persistedRanks = ranks;
+        lastSaveChangedRows = changedRows;
+    }
+
+    /**
+     * Returns the number of persons whose rows were deleted or inserted by the last save.
+     */
+    synchronized int getLastSaveChangedRows() {
+        return lastSaveChangedRows;
+    }
+
+    /**
+     * Returns the saved persons whose names start with {@code prefix}, ignoring case, in name order.
+     */
+    public synchronized List<Person> findPersonsByNamePrefix(String prefix) throws IOException, IllegalValueException {
+        requireNonNull(prefix);
+        return findPersons("p.name_key LIKE ? ESCAPE '\\'", "p.name_key",
+                escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%");
+    }
+
+    /**
+     * Returns the saved persons with {@code email}, ignoring case.
+     */
+    public synchronized List<Person> findPersonsByEmail(String email) throws IOException, IllegalValueException {
+        requireNonNull(email);
+        return findPersons("p.email_key = ?", "p.person_rank", email.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the saved persons with the tag {@code tagName}, ignoring case.
+     */
+    public synchronized List<Person> findPersonsByTag(String tagName) throws IOException, IllegalValueException {
+        requireNonNull(tagName);
+        return findPersons("p.person_rank IN (SELECT person_rank FROM person_tags WHERE tag_key = ?)",
+                "p.person_rank", tagName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the saved persons whose company is {@code company}, ignoring case.
+     */
+    public synchronized List<Person> findPersonsByCompany(String company) throws IOException, IllegalValueException {
+        requireNonNull(company);
+        return findPersons("p.company_key = ?", "p.person_rank", company.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the saved person with identity key {@code identityKey}, if there is one.
+     */
+    public synchronized Optional<Person> findPersonByIdentityKey(String identityKey)
+            throws IOException, IllegalValueException {
+        requireNonNull(identityKey);
+        return findPersons("p.identity_key = ?", "p.person_rank", identityKey).stream().findFirst();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Failed to close database " + filePath, e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns the connection to the database, opening it and creating its tables if needed.
+     */
+    private Connection getConnection() throws IOException {
+        if (connection != null) {
+            return connection;
+        }
+        String databasePath = filePath.toAbsolutePath().toString();
+        databasePath = databasePath.substring(0, databasePath.length() - SQL_EXTENSION.length());
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Connection opened = DriverManager.getConnection(JDBC_URL_PREFIX + databasePath + JDBC_URL_OPTIONS);
+            try (Statement statement = opened.createStatement()) {
+                for (String definition : SCHEMA) {
+                    statement.execute(definition);
+                }
+                opened.setAutoCommit(false);
+            } catch (SQLException e) {
+                opened.close();
+                throw e;
+            }
+            connection = opened;
+            return connection;
+        } catch (SQLException e) {
+            throw new IOException("Failed to open database " + filePath, e);
+        }
+    }
+
+    private void loadPersistedState() {
+        try {
+            readPersons();
+        } catch (IllegalValueException | IOException e) {
+            // The existing rows are unreadable, so they are all rewritten.
+            logger.warning("Rewriting unreadable database " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reads every person in rank order and records them as the persisted state.
+     */
+    private AddressBook readPersons() throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<Long> ranks = new ArrayList<>();
+        queryPersons("", "p.person_rank", persons, ranks);
+
+        Set<String> identityKeys = new HashSet<>();
+        for (Person person : persons) {
+            if (!identityKeys.add(person.getIdentityKey())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        persistedPersons = persons;
+        persistedRanks = ranks.stream().mapToLong(Long::longValue).toArray();
+        return addressBook;
+    }
+
+    private List<Person> findPersons(String condition, String order, String parameter)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return List.of();
+        }
+        List<Person> persons = new ArrayList<>();
+        queryPersons(condition, order, persons, null, parameter);
+        return persons;
+    }
+
+    /**
+     * Adds the persons meeting {@code condition}, in {@code order}, to {@code persons}, and their ranks to
+     * {@code ranks} if it is not null. An empty condition selects every person.
+     */
+    private void queryPersons(String condition, String order, List<Person> persons, List<Long> ranks,
+            String... parameters) throws IOException, IllegalValueException {
+        String sql = SELECT_PERSONS + (condition.isEmpty() ? "" : " WHERE " + condition)
+                + " ORDER BY " + order + ", p.person_rank";
+        Connection connection = getConnection();
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                query.setString(i + 1, parameters[i]);
+            }
+            try (ResultSet rows = query.executeQuery()) {
+                PersonRow current = null;
+                while (rows.next()) {
+                    long rank = rows.getLong(1);
+                    if (current == null || current.rank != rank) {
+                        addPerson(current, persons, ranks);
+                        current = new PersonRow(rank, rows.getString(2), rows.getString(3), rows.getString(4),
+                                rows.getString(5), rows.getString(6));
+                    }
+                    String tag = rows.getString(7);
+                    if (tag != null) {
+                        current.tags.add(new JsonAdaptedTag(tag));
+                    }
+                }
+                addPerson(current, persons, ranks);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            rollbackQuietly(connection);
+            throw new IOException("Failed to read from database " + filePath, e);
+        }
+    }
+
+    private static void addPerson(PersonRow row, List<Person> persons, List<Long> ranks)
+            throws IllegalValueException {
+        if (row == null) {
+            return;
+        }
+        persons.add(new JsonAdaptedPerson(row.name, row.phone, row.email, row.company, row.detail, row.tags)
+                .toModelType());
+        if (ranks != null) {
+            ranks.add(row.rank);
+        }
+    }
+
+    private static void addInsertBatches(PreparedStatement insertPerson, PreparedStatement insertTag, long rank,
+            Person person) throws SQLException {
+        insertPerson.setLong(1, rank);
+        insertPerson.setString(2, person.getIdentityKey());
+        insertPerson.setString(3, person.getName().fullName);
+        insertPerson.setString(4, person.getName().fullName.toLowerCase(Locale.ROOT));
+        insertPerson.setString(5, person.getPhone().value);
+        insertPerson.setString(6, person.getEmail().value);
+        insertPerson.setString(7, person.getEmail().value.toLowerCase(Locale.ROOT));
+        insertPerson.setString(8, person.getCompany().value);
+        insertPerson.setString(9, person.getCompany().value.toLowerCase(Locale.ROOT));
+        insertPerson.setString(10, person.getDetail().value);
+        insertPerson.addBatch();
+        for (Tag tag : person.getTags()) {
+            insertTag.setLong(1, rank);
+            insertTag.setString(2, tag.tagName);
+            insertTag.setString(3, tag.tagName.toLowerCase(Locale.ROOT));
+            insertTag.addBatch();
+        }
+    }
+
+    private static Map<Long, Person> byRank(List<Person> persons, long[] ranks) {
+        Map<Long, Person> map = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            map.put(ranks[i], persons.get(i));
+        }
+        return map;
+    }
+
+    /**
+     * Returns {@code value} with the characters that are special in a {@code LIKE} pattern escaped.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.warning("Failed to roll back database " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * The columns of a person read from the database, gathered with its tags from consecutive rows.
+     */
+    private static class PersonRow {
+        private final long rank;
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String company;
+        private final String detail;
+        private final List<JsonAdaptedTag> tags = new ArrayList<>();
+
+        PersonRow(long rank, String name, String phone, String email, String company, String detail) {
+            this.rank = rank;
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.company = company;
+            this.detail = detail;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,13 +20,26 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ChangeLogStorage changeLogStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * keeping the change log next to the data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new JsonChangeLogStorage(
+                JsonChangeLogStorage.getChangeLogFilePath(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code ChangeLogStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            ChangeLogStorage changeLogStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.changeLogStorage = changeLogStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +89,23 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    // ================ ChangeLog methods ==============================
+
+    @Override
+    public Path getChangeLogFilePath() {
+        return changeLogStorage.getChangeLogFilePath();
+    }
+
+    @Override
+    public Optional<ChangeLog> readChangeLog() throws DataLoadingException {
+        logger.fine("Attempting to read change log from file: " + getChangeLogFilePath());
+        return changeLogStorage.readChangeLog();
+    }
+
+    @Override
+    public void saveChangeLog(ChangeLog changeLog) throws IOException {
+        logger.fine("Attempting to write change log to file: " + getChangeLogFilePath());
+        changeLogStorage.saveChangeLog(changeLog);
+    }
+
 }
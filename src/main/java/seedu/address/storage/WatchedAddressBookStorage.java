@@ -0,0 +1,344 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that watches its data file for changes made by other programs.
+ * <p>
+ * The persons last known to be in the data file are kept, from the last read or save through this storage. Once
+ * {@link #start()} is called, the data file is read again whenever it changes, and the persons that differ are
+ * reported to the handler set with {@link #setChangeHandler(Consumer)}. Saves through this storage update the known
+ * persons before the resulting change is seen, so they are not reported.
+ * <p>
+ * A save may be of a contact book taken before another program changed the data file, such as one that waited to be
+ * written in the background. So if the data file's last-modified time or size differs from when it was last read or
+ * saved, its changes are reported and merged into the contact book being saved first, instead of being overwritten.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage, Closeable {
+
+    /** How long the data file must go unchanged before it is read, so that it is not read while half written. */
+    public static final long SETTLE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final Path filePath;
+
+    private volatile Consumer<Changes> changeHandler = changes -> {};
+    private volatile boolean isClosed;
+    private Thread watcher;
+
+    // Guarded by this object's lock. Null until the data file has been read or saved.
+    private Map<String, Person> knownPersons;
+    private FileTime knownModifiedTime;
+    private long knownSize;
+
+    /**
+     * Creates a {@code WatchedAddressBookStorage} that reads and saves through {@code delegate}.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage delegate) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.filePath = delegate.getAddressBookFilePath();
+    }
+
+    /**
+     * Sets the handler that is called, on the watcher thread, with the changes made to the data file by other
+     * programs.
+     */
+    public void setChangeHandler(Consumer<Changes> changeHandler) {
+        requireNonNull(changeHandler);
+        this.changeHandler = changeHandler;
+    }
+
+    /**
+     * Starts watching the data file on a background thread.
+     */
+    public synchronized void start() throws IOException {
+        if (watcher != null || isClosed) {
+            return;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        Path directory = filePath.toAbsolutePath().getParent();
+        WatchService watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        watcher = new Thread(() -> watch(watchService), "data-file-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        if (!filePath.equals(this.filePath)) {
+            return delegate.readAddressBook(filePath);
+        }
+        // Taken before reading, so that a change made while reading is merged by the next save
+        recordFileState();
+        Optional<ReadOnlyAddressBook> addressBook = delegate.readAddressBook(filePath);
+        addressBook.ifPresent(read -> knownPersons = byIdentityKey(read));
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(this.filePath)) {
+            delegate.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook toSave = addressBook;
+        if (isChangedSinceKnown()) {
+            logger.info("Data file " + filePath + " changed since it was last read or saved, merging before saving");
+            Changes changes = checkForChanges();
+            if (changes != null && !changes.isEmpty()) {
+                AddressBook merged = new AddressBook(addressBook);
+                changes.applyTo(merged);
+                toSave = merged;
+            }
+        }
+        delegate.saveAddressBook(toSave, filePath);
+        knownPersons = byIdentityKey(toSave);
+        recordFileState();
+    }
+
+    /**
+     * Reads the data file and reports the persons that changed since it was last read or saved, if any.
+     * The data file is left to be read again at its next change if it cannot be read.
+     *
+     * @return the changes reported, or null if the data file could not be read or does not exist.
+     */
+    synchronized Changes checkForChanges() {
+        recordFileState();
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = delegate.readAddressBook();
+        } catch (DataLoadingException e) {
+            logger.warning("Changed data file " + filePath + " could not be read: " + StringUtil.getDetails(e));
+            return null;
+        }
+        if (addressBook.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Person> persons = byIdentityKey(addressBook.get());
+        Changes changes = knownPersons == null
+                ? new Changes(addressBook.get().getPersonList(), Set.of())
+                : Changes.between(knownPersons, addressBook.get().getPersonList());
+        knownPersons = persons;
+        if (!changes.isEmpty()) {
+            logger.info("Data file " + filePath + " was changed by another program: " + changes);
+            changeHandler.accept(changes);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns true if the data file has been read or saved, and its last-modified time or size has changed since.
+     */
+    private synchronized boolean isChangedSinceKnown() {
+        if (knownPersons == null || knownModifiedTime == null || !Files.exists(filePath)) {
+            return false;
+        }
+        try {
+            return !knownModifiedTime.equals(Files.getLastModifiedTime(filePath)) || knownSize != Files.size(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to check data file " + filePath + " for changes: " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Records the last-modified time and size of the data file as it is now.
+     */
+    private synchronized void recordFileState() {
+        try {
+            knownModifiedTime = Files.exists(filePath) ? Files.getLastModifiedTime(filePath) : null;
+            knownSize = knownModifiedTime == null ? 0 : Files.size(filePath);
+        } catch (IOException e) {
+            knownModifiedTime = null;
+        }
+    }
+
+    private void watch(WatchService watchService) {
+        try (watchService) {
+            while (!isClosed) {
+                WatchKey key = watchService.take();
+                boolean isDataFileChanged = isDataFileChanged(key);
+                if (!key.reset()) {
+                    logger.warning("Stopped watching " + filePath + " as its folder is no longer accessible");
+                    return;
+                }
+                if (!isDataFileChanged) {
+                    continue;
+                }
+                // Wait for the writer to finish, ignoring the events of its remaining writes.
+                while ((key = watchService.poll(SETTLE_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                checkForChanges();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private boolean isDataFileChanged(WatchKey key) {
+        Path fileName = filePath.getFileName();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || fileName.equals(event.context())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Person> byIdentityKey(ReadOnlyAddressBook addressBook) {
+        Map<String, Person> persons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getIdentityKey(), person);
+        }
+        return persons;
+    }
+
+    /**
+     * The persons that were added, edited or removed in the data file by another program.
+     * Persons are identified by their identity key, so a person whose identity key was edited is removed and added.
+     */
+    public static class Changes {
+        private final List<Person> changedPersons;
+        private final Set<String> removedIdentityKeys;
+
+        Changes(List<Person> changedPersons, Set<String> removedIdentityKeys) {
+            this.changedPersons = Collections.unmodifiableList(new ArrayList<>(changedPersons));
+            this.removedIdentityKeys = Collections.unmodifiableSet(new HashSet<>(removedIdentityKeys));
+        }
+
+        /**
+         * Returns the changes from {@code oldPersons}, keyed by identity key, to {@code persons}.
+         */
+        static Changes between(Map<String, Person> oldPersons, List<Person> persons) {
+            List<Person> changedPersons = new ArrayList<>();
+            Set<String> removedIdentityKeys = new HashSet<>(oldPersons.keySet());
+            for (Person person : persons) {
+                if (!person.equals(oldPersons.get(person.getIdentityKey()))) {
+                    changedPersons.add(person);
+                }
+                removedIdentityKeys.remove(person.getIdentityKey());
+            }
+            return new Changes(changedPersons, removedIdentityKeys);
+        }
+
+        /**
+         * Returns the persons that were added or edited, in the order they are in the data file.
+         */
+        public List<Person> getChangedPersons() {
+            return changedPersons;
+        }
+
+        public Set<String> getRemovedIdentityKeys() {
+            return removedIdentityKeys;
+        }
+
+        public boolean isEmpty() {
+            return changedPersons.isEmpty() && removedIdentityKeys.isEmpty();
+        }
+
+        /**
+         * Applies these changes to {@code addressBook}, leaving the persons that were not changed as they are.
+         * Added persons are placed at the end of the contact book.
+         */
+        public void applyTo(AddressBook addressBook) {
+            requireNonNull(addressBook);
+            Map<String, Person> personsByIdentityKey = new HashMap<>();
+            for (Person person : addressBook.getPersonList()) {
+                personsByIdentityKey.put(person.getIdentityKey(), person);
+            }
+
+            for (String identityKey : removedIdentityKeys) {
+                Person removed = personsByIdentityKey.get(identityKey);
+                if (removed != null) {
+                    addressBook.removePerson(removed);
+                }
+            }
+            for (Person changed : changedPersons) {
+                Person current = personsByIdentityKey.get(changed.getIdentityKey());
+                if (current == null) {
+                    addressBook.addPerson(changed);
+                } else if (!current.equals(changed)) {
+                    addressBook.setPerson(current, changed);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return changedPersons.size() + " added or edited, " + removedIdentityKeys.size() + " removed";
+        }
+    }
+}
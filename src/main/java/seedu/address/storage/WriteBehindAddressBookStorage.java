@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves in the background.
+ * Each save takes a snapshot of the contact book and returns immediately. The snapshot is written by a dedicated
+ * thread once no further save has been requested for {@code saveDelayMillis}, or at the latest
+ * {@code maxSaveStalenessMillis} after the oldest unsaved change, so a burst of saves results in a single write.
+ * Since persons are immutable, the snapshot only copies the list of them, and the contact book to write is built on
+ * the writer thread.
+ * A failed write is retried in the background, after a delay that doubles with each failure up to
+ * {@value #MAX_RETRY_DELAY_MILLIS} milliseconds. The first failure after a successful write is reported to the
+ * handler set with {@link #setSaveFailureHandler(Consumer)}.
+ * <p>
+ * The change log of the contact book is saved the same way, in the same write. It is written before the contact
+ * book, so that a crash in between leaves the change log ahead of the contact book rather than behind it.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage, ChangeLogStorage {
+
+    static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+    static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final ChangeLogStorage changeLogDelegate;
+    private final long saveDelayMillis;
+    private final long maxSaveStalenessMillis;
+    private final ScheduledExecutorService executor;
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
+    // The fields below are guarded by this object's lock.
+    private PendingSave pendingSave;
+    private long pendingSinceMillis;
+    private ScheduledFuture<?> scheduledWrite;
+    private long retryDelayMillis;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code delegate}, and writes the change log
+     * to a {@code JsonChangeLogStorage} beside its data file.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate, long saveDelayMillis,
+            long maxSaveStalenessMillis) {
+        this(delegate, new JsonChangeLogStorage(
+                JsonChangeLogStorage.getChangeLogFilePath(delegate.getAddressBookFilePath())),
+                saveDelayMillis, maxSaveStalenessMillis);
+    }
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code delegate} and
+     * {@code changeLogDelegate}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate, ChangeLogStorage changeLogDelegate,
+            long saveDelayMillis, long maxSaveStalenessMillis) {
+        requireAllNonNull(delegate, changeLogDelegate);
+        this.delegate = delegate;
+        this.changeLogDelegate = changeLogDelegate;
+        this.saveDelayMillis = Math.max(0, saveDelayMillis);
+        this.maxSaveStalenessMillis = Math.max(0, maxSaveStalenessMillis);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fastcard-storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the writer thread, when a background write fails.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save pending changes before reading: " + StringUtil.getDetails(e));
+        }
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath}.
+     * A write error is reported to the save failure handler rather than thrown.
+     *
+     * @throws IOException if this storage has been closed.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (executor.isShutdown()) {
+            throw new IOException("Storage has been closed");
+        }
+
+        if (pendingSave != null && pendingSave.filePath != null && !pendingSave.filePath.equals(filePath)) {
+            // Changing files: write out the previous file's changes straight away.
+            PendingSave previous = pendingSave;
+            executor.execute(() -> reportFailure(write(previous)));
+            pendingSave = null;
+        }
+        ChangeLogSnapshot pendingChangeLog = pendingSave == null ? null : pendingSave.changeLog;
+        schedule(new PendingSave(List.copyOf(addressBook.getPersonList()), filePath, pendingChangeLog));
+    }
+
+    @Override
+    public Path getChangeLogFilePath() {
+        return changeLogDelegate.getChangeLogFilePath();
+    }
+
+    @Override
+    public Optional<ChangeLog> readChangeLog() throws DataLoadingException {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save pending changes before reading: " + StringUtil.getDetails(e));
+        }
+        return changeLogDelegate.readChangeLog();
+    }
+
+    /**
+     * Schedules a snapshot of {@code changeLog} to be written with the pending contact book, if any.
+     * A write error is reported to the save failure handler rather than thrown.
+     *
+     * @throws IOException if this storage has been closed.
+     */
+    @Override
+    public synchronized void saveChangeLog(ChangeLog changeLog) throws IOException {
+        requireNonNull(changeLog);
+        if (executor.isShutdown()) {
+            throw new IOException("Storage has been closed");
+        }
+
+        ChangeLogSnapshot changeLogSnapshot = new ChangeLogSnapshot(changeLog);
+        PendingSave snapshot = pendingSave == null
+                ? new PendingSave(null, null, changeLogSnapshot)
+                : new PendingSave(pendingSave.persons, pendingSave.filePath, changeLogSnapshot);
+        schedule(snapshot);
+    }
+
+    /**
+     * Makes {@code snapshot} the pending save and schedules it to be written.
+     */
+    private synchronized void schedule(PendingSave snapshot) {
+        long now = currentTimeMillis();
+        if (pendingSave == null) {
+            pendingSinceMillis = now;
+        }
+        pendingSave = snapshot;
+
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        long delay = Math.max(0, Math.min(saveDelayMillis, pendingSinceMillis + maxSaveStalenessMillis - now));
+        scheduledWrite = executor.schedule(this::writeInBackground, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the pending snapshot, which has just failed to be written, to be written again after the retry delay.
+     */
+    private synchronized void scheduleRetry() {
+        retryDelayMillis = retryDelayMillis == 0
+                ? INITIAL_RETRY_DELAY_MILLIS
+                : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        if (executor.isShutdown()) {
+            return;
+        }
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        scheduledWrite = executor.schedule(this::writeInBackground, retryDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes any pending snapshot immediately and waits for the write to complete.
+     *
+     * @throws IOException if the write failed.
+     */
+    public void flush() throws IOException {
+        IOException failure;
+        try {
+            failure = executor.submit(this::writePending).get();
+        } catch (RejectedExecutionException e) {
+            failure = writePending();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the contact book", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to save the contact book", e.getCause());
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes any pending snapshot and stops the writer thread. Further saves are rejected.
+     *
+     * @throws IOException if the final write failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot on the writer thread, reporting the failure if the last write succeeded.
+     */
+    private void writeInBackground() {
+        boolean isRetrying;
+        synchronized (this) {
+            isRetrying = retryDelayMillis != 0;
+        }
+        IOException failure = writePending();
+        if (!isRetrying) {
+            reportFailure(failure);
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot, if any.
+     * A snapshot that fails to be written is kept, and is retried by the next write or after the retry delay if no
+     * newer snapshot is waiting to be written.
+     *
+     * @return the failure, or {@code null} if the write succeeded or there was nothing to write.
+     */
+    private IOException writePending() {
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+        if (save == null) {
+            return null;
+        }
+
+        IOException failure = write(save);
+        synchronized (this) {
+            if (failure == null) {
+                retryDelayMillis = 0;
+            } else if (pendingSave == null) {
+                pendingSave = save;
+                pendingSinceMillis = currentTimeMillis();
+                scheduleRetry();
+            } else {
+                // The newer snapshot is already scheduled to be written.
+                pendingSave = pendingSave.orElse(save);
+            }
+        }
+        return failure;
+    }
+
+    private IOException write(PendingSave save) {
+        if (save.changeLog != null) {
+            try {
+                changeLogDelegate.saveChangeLog(save.changeLog.toChangeLog());
+            } catch (IOException e) {
+                logger.warning("Failed to save change log to " + getChangeLogFilePath() + ": "
+                        + StringUtil.getDetails(e));
+                return e;
+            }
+        }
+        if (save.persons != null) {
+            try {
+                AddressBook addressBook = new AddressBook();
+                addressBook.setPersons(save.persons);
+                delegate.saveAddressBook(addressBook, save.filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to save contact book to " + save.filePath + ": " + StringUtil.getDetails(e));
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private void reportFailure(IOException failure) {
+        if (failure != null) {
+            saveFailureHandler.accept(failure);
+        }
+    }
+
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * A snapshot of the persons of the contact book and its change log waiting to be written.
+     * Either may be null if only the other is to be written.
+     */
+    private static class PendingSave {
+        private final List<Person> persons;
+        private final Path filePath;
+        private final ChangeLogSnapshot changeLog;
+
+        PendingSave(List<Person> persons, Path filePath, ChangeLogSnapshot changeLog) {
+            this.persons = persons;
+            this.filePath = filePath;
+            this.changeLog = changeLog;
+        }
+
+        /**
+         * Returns this save, with whichever of the contact book and change log it does not write taken from the
+         * {@code older} save.
+         */
+        PendingSave orElse(PendingSave older) {
+            return new PendingSave(persons == null ? older.persons : persons,
+                    persons == null ? older.filePath : filePath,
+                    changeLog == null ? older.changeLog : changeLog);
+        }
+    }
+
+    /**
+     * A snapshot of a change log, holding references to its entries, which are immutable.
+     */
+    private static class ChangeLogSnapshot {
+        private final long sequence;
+        private final long exportWatermark;
+        private final List<ChangeLog.Entry> entries;
+
+        ChangeLogSnapshot(ChangeLog changeLog) {
+            sequence = changeLog.getSequence();
+            exportWatermark = changeLog.getExportWatermark();
+            entries = List.copyOf(changeLog.getEntries());
+        }
+
+        ChangeLog toChangeLog() {
+            return new ChangeLog(sequence, exportWatermark, entries);
+        }
+    }
+}
@@ -133,7 +133,8 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getLoadStatus(),
+                logic.getExportStatus());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand, this::navigateCommandHistory);
@@ -210,6 +211,13 @@ public class MainWindow extends UiPart<Stage> {
         detailsPane.setManaged(true);
     }
 
+    /**
+     * Shows {@code feedback} in the result display.
+     */
+    public void showFeedback(String feedback) {
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class CompressionUtilTest {
+
+    private static final String CONTENT = "{ \"persons\" : [ ] }\n".repeat(100);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeCompressed_thenDecompress_contentPreserved() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressionUtil.writeCompressed(out, stream -> stream.write(CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        byte[] compressed = out.toByteArray();
+        assertTrue(compressed.length < CONTENT.length());
+        assertEquals(CONTENT, readAll(new ByteArrayInputStream(compressed)));
+    }
+
+    @Test
+    public void decompressIfCompressed_plainContent_returnedUnchanged() throws IOException {
+        assertEquals(CONTENT, readAll(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+        assertEquals("", readAll(new ByteArrayInputStream(new byte[0])));
+        assertEquals("x", readAll(new ByteArrayInputStream(new byte[] {'x'})));
+    }
+
+    @Test
+    public void jsonAddressBookStorage_compressed_readBackByAnyStorage() throws Exception {
+        Path filePath = testFolder.resolve("compressed.json");
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(0x1f, bytes[0] & 0xff);
+        assertEquals(0x8b, bytes[1] & 0xff);
+        // the format is detected when reading, whatever the reading storage saves in
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        try (InputStream content = CompressionUtil.decompressIfCompressed(in)) {
+            return new String(content.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRow_plainFields_notQuoted() throws IOException {
+        assertEquals("Name,Phone,\r\n", write("Name", "Phone", ""));
+    }
+
+    @Test
+    public void writeRow_nullField_writtenEmpty() throws IOException {
+        assertEquals("a,,b\r\n", write("a", null, "b"));
+    }
+
+    @Test
+    public void writeRow_specialCharacters_quotedAndEscaped() throws IOException {
+        assertEquals("\"Hello \"\"World\"\"\",\"a,b\",\"line\nbreak\",\"carriage\rreturn\"\r\n",
+                write("Hello \"World\"", "a,b", "line\nbreak", "carriage\rreturn"));
+    }
+
+    @Test
+    public void writeField_severalRows_builderReused() throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeField("a").writeField("b").endRow();
+            writer.writeField(new StringBuilder("c")).endRow();
+        }
+        assertEquals("a,b\r\nc\r\n", out.toString());
+    }
+
+    private static String write(CharSequence... fields) throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(fields);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class AddressBookLoaderTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Model model = new ModelManager();
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+
+    @Test
+    public void constructor_invalidBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookLoader(model, AddressBook::new, uiTasks::add, 0));
+    }
+
+    @Test
+    public void start_personsAddedInBatches() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, () -> getTypicalAddressBook(), uiTasks::add,
+                BATCH_SIZE);
+        int total = getTypicalPersons().size();
+        assertEquals(AddressBookLoader.MESSAGE_READING, loader.statusProperty().get());
+
+        loader.start();
+        runNextUiTask();
+        assertEquals(getTypicalPersons().subList(0, BATCH_SIZE), model.getAddressBook().getPersonList());
+        assertEquals(String.format(AddressBookLoader.MESSAGE_PROGRESS, BATCH_SIZE, total),
+                loader.statusProperty().get());
+        assertFalse(loader.isComplete());
+
+        while (!loader.isComplete()) {
+            runNextUiTask();
+        }
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(AddressBookLoader.MESSAGE_LOADED, loader.statusProperty().get());
+        assertTrue(loader.getCompletion().isDone());
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void awaitCompletion_batchesPending_remainingPersonsAddedAtOnce() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, () -> getTypicalAddressBook(), uiTasks::add,
+                BATCH_SIZE);
+        long versionBefore = model.getAddressBookVersion();
+        loader.start();
+
+        loader.awaitCompletion();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(versionBefore + 1, model.getAddressBookVersion());
+
+        // the batch that was queued meanwhile finds nothing left to add
+        runNextUiTask();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void awaitCompletion_sourceFails_emptyContactBookAndFailed() {
+        AddressBookLoader loader = new AddressBookLoader(model, () -> {
+            throw new IllegalStateException("unreadable");
+        }, uiTasks::add);
+        loader.start();
+
+        loader.awaitCompletion();
+        assertTrue(loader.isComplete());
+        assertTrue(loader.isFailed());
+        assertEquals(AddressBookLoader.MESSAGE_FAILED, loader.statusProperty().get());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(task);
+        task.run();
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportJob;
+
+public class ExportJobRunnerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final ExportJobRunner runner = new ExportJobRunner(uiTasks::add);
+
+    @Test
+    public void start_noJobRunning_completionReportedThroughUiExecutor() throws Exception {
+        List<String> messages = new ArrayList<>();
+        runner.setCompletionHandler(messages::add);
+        Path path = testFolder.resolve("contacts.csv");
+
+        assertTrue(runner.start(new ExportJob(getTypicalPersons(), path, false)));
+        assertTrue(runner.isRunning());
+        assertEquals(String.format(ExportJobRunner.MESSAGE_STARTING, "contacts.csv"),
+                runner.statusProperty().get());
+
+        while (!runner.getCompletion().isDone()) {
+            runNextUiTask();
+        }
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, "contacts.csv");
+        assertEquals(expectedMessage, runner.getCompletion().get());
+        assertEquals(List.of(expectedMessage), messages);
+        assertEquals(ExportJobRunner.MESSAGE_IDLE, runner.statusProperty().get());
+        assertFalse(runner.isRunning());
+        assertTrue(Files.exists(path));
+    }
+
+    @Test
+    public void start_jobRunning_returnsFalse() throws Exception {
+        assertTrue(runner.start(new ExportJob(getTypicalPersons(), testFolder.resolve("first.csv"), false)));
+        assertFalse(runner.start(new ExportJob(getTypicalPersons(), testFolder.resolve("second.csv"), false)));
+
+        while (!runner.getCompletion().isDone()) {
+            runNextUiTask();
+        }
+        assertFalse(Files.exists(testFolder.resolve("second.csv")));
+        assertTrue(runner.start(new ExportJob(getTypicalPersons(), testFolder.resolve("second.csv"), false)));
+        while (!runner.getCompletion().isDone()) {
+            runNextUiTask();
+        }
+    }
+
+    @Test
+    public void cancel_noJobRunning_returnsFalse() {
+        assertFalse(runner.cancel());
+    }
+
+    @Test
+    public void cancel_jobRunning_returnsTrue() throws Exception {
+        assertTrue(runner.start(new ExportJob(getTypicalPersons(), testFolder.resolve("contacts.csv"), false)));
+        assertTrue(runner.cancel());
+
+        while (!runner.getCompletion().isDone()) {
+            runNextUiTask();
+        }
+        assertFalse(runner.cancel());
+    }
+
+    @Test
+    public void cancelAndWait_jobRunning_partialFileDeletedBeforeReturning() throws Exception {
+        assertTrue(runner.cancelAndWait(0));
+
+        Path path = testFolder.resolve("contacts.csv");
+        ExportJob job = new ExportJob(getTypicalPersons(), path, false);
+        assertTrue(runner.start(job));
+
+        assertTrue(runner.cancelAndWait(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)));
+        // the job ended without its completion being run, leaving either the whole file or none of it
+        assertTrue(job.isCancelled());
+        assertEquals(job.isSucceeded(), Files.exists(path));
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(task);
+        task.run();
+    }
+}
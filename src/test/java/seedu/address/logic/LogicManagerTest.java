@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_INFO;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_AMY;
@@ -10,10 +12,14 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,19 +27,24 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonChangeLogStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -66,6 +77,11 @@ public class LogicManagerTest {
         assertCommandException(deleteCommand, MESSAGE_INVALID_PERSON_INFO);
     }
 
+    @Test
+    public void execute_cancelWithNoExportRunning_throwsCommandException() {
+        assertCommandException(CancelCommand.COMMAND_WORD, LogicManager.MESSAGE_NO_EXPORT_RUNNING);
+    }
+
     @Test
     public void execute_validCommand_success() throws Exception {
         String listCommand = ListCommand.COMMAND_WORD;
@@ -84,6 +100,128 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("existing.json");
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(model.getAddressBook());
+        int[] saveCount = {0};
+        logic = createLogicCountingSaves(addressBookPath, saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + COMPANY_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_contactBookChanged_changeLogSavedBesideDataFile() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + COMPANY_DESC_AMY);
+
+        JsonChangeLogStorage changeLogStorage = new JsonChangeLogStorage(
+                JsonChangeLogStorage.getChangeLogFilePath(temporaryFolder.resolve("fastcard.json")));
+        assertEquals(model.getChangeLog(), changeLogStorage.readChangeLog().get());
+        assertEquals(1, model.getChangeLog().getChangesSince(ChangeLog.NO_SEQUENCE).size());
+    }
+
+    @Test
+    public void execute_markedUnsaved_savesOnNextCommand() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("recovered.json");
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(model.getAddressBook());
+        int[] saveCount = {0};
+        logic = createLogicCountingSaves(addressBookPath, saveCount);
+
+        logic.markAddressBookUnsaved();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_dataFileMissing_savesOnFirstCommand() throws Exception {
+        int[] saveCount = {0};
+        logic = createLogicCountingSaves(temporaryFolder.resolve("missing.json"), saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_contactBookLoading_waitsOnlyWhenNeededAndSavesOnlyChanges() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("loading.json");
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(getTypicalAddressBook());
+        int[] saveCount = {0};
+        // batches queued for the UI thread are never run, so loading only completes when a command waits for it
+        List<Runnable> uiTasks = new CopyOnWriteArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader(model, TypicalPersons::getTypicalAddressBook, uiTasks::add);
+        logic = createLogicCountingSaves(addressBookPath, saveCount, loader);
+        loader.start();
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertFalse(loader.isComplete());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(loader.isComplete());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + COMPANY_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_contactBookLoadFailed_changesRejectedAndNothingSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("unreadable.json");
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(getTypicalAddressBook());
+        int[] saveCount = {0};
+        AddressBookLoader loader = new AddressBookLoader(model, () -> {
+            throw new IllegalStateException("unreadable");
+        }, new CopyOnWriteArrayList<Runnable>()::add);
+        logic = createLogicCountingSaves(addressBookPath, saveCount, loader);
+        loader.start();
+
+        assertCommandException(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + COMPANY_DESC_AMY, AddressBookLoader.MESSAGE_FAILED);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(0, saveCount[0]);
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_dataFileUnreadable_dataFileNeverWritten() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("corrupt.json");
+        String corruptContent = "{ \"persons\": [ {";
+        Files.writeString(addressBookPath, corruptContent);
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookLoader loader = new AddressBookLoader(model, AddressBookLoader.fromStorage(storage),
+                new CopyOnWriteArrayList<Runnable>()::add);
+        logic = new LogicManager(model, storage, loader, false);
+        loader.start();
+
+        assertCommandException(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + COMPANY_DESC_AMY, AddressBookLoader.MESSAGE_FAILED);
+        assertTrue(loader.isFailed());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(corruptContent, Files.readString(addressBookPath));
+    }
+
+    @Test
+    public void execute_readOnly_changesRejectedAndNothingSaved() throws Exception {
+        int[] saveCount = {0};
+        logic = createLogicCountingSaves(temporaryFolder.resolve("missing.json"), saveCount, null, true);
+
+        assertCommandException(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + COMPANY_DESC_AMY, LogicManager.MESSAGE_READ_ONLY);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(0, saveCount[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -180,6 +318,37 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Creates a {@code LogicManager} backed by {@code model} and a storage at {@code addressBookPath} that
+     * counts the number of saves in {@code saveCount}.
+     */
+    private Logic createLogicCountingSaves(Path addressBookPath, int[] saveCount) {
+        return createLogicCountingSaves(addressBookPath, saveCount, null);
+    }
+
+    /**
+     * Similar to {@link #createLogicCountingSaves(Path, int[])}, with the contact book loaded by {@code loader}.
+     */
+    private Logic createLogicCountingSaves(Path addressBookPath, int[] saveCount, AddressBookLoader loader) {
+        return createLogicCountingSaves(addressBookPath, saveCount, loader, false);
+    }
+
+    /**
+     * Similar to {@link #createLogicCountingSaves(Path, int[], AddressBookLoader)}, read-only if {@code isReadOnly}.
+     */
+    private Logic createLogicCountingSaves(Path addressBookPath, int[] saveCount, AddressBookLoader loader,
+            boolean isReadOnly) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), loader, isReadOnly);
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BackupStore;
+
+public class BackupCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private BackupStore backupStore;
+
+    @BeforeEach
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("fastcard.json"));
+        userPrefs.setBackupRetentionCount(2);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        backupStore = new BackupStore(BackupStore.getBackupDirectory(model.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void execute_contactBook_backedUp() throws Exception {
+        CommandResult result = new BackupCommand().execute(model);
+
+        BackupStore.Backup backup = backupStore.listBackups().get(0);
+        assertEquals(String.format(BackupCommand.MESSAGE_SUCCESS, getTypicalAddressBook().getPersonList().size(),
+                backup.getId(), backup.getNewBytes()), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), backupStore.restore(backup.getId()));
+    }
+
+    @Test
+    public void execute_moreBackupsThanRetained_oldestDeleted() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            new BackupCommand().execute(model);
+        }
+        assertEquals(2, backupStore.listBackups().size());
+    }
+
+    @Test
+    public void changesContactBook() {
+        assertFalse(new BackupCommand().changesContactBook());
+    }
+
+    @Test
+    public void equals() {
+        BackupCommand backupCommand = new BackupCommand();
+        assertTrue(backupCommand.equals(backupCommand));
+        assertTrue(backupCommand.equals(new BackupCommand()));
+        assertFalse(backupCommand.equals(null));
+        assertFalse(backupCommand.equals(new ListCommand()));
+    }
+}
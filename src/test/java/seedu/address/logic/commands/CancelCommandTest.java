@@ -0,0 +1,20 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CancelCommand.MESSAGE_CANCELLING;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class CancelCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_cancel_success() {
+        CommandResult expectedCommandResult = CommandResult.cancellingExport(MESSAGE_CANCELLING);
+        assertCommandSuccess(new CancelCommand(), model, expectedCommandResult, expectedModel);
+    }
+}
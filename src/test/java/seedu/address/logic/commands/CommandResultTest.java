@@ -33,6 +33,9 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true, false, -1)));
+
+        // different cancelExport value -> returns false
+        assertFalse(commandResult.equals(CommandResult.cancellingExport("feedback")));
     }
 
     @Test
@@ -50,6 +53,9 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true, false, -1).hashCode());
+
+        // different cancelExport value -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), CommandResult.cancellingExport("feedback").hashCode());
     }
 
     @Test
@@ -57,7 +63,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", cancelExport=" + commandResult.isCancelExport() + "}";
         assertEquals(expected, commandResult.toString());
     }
 
@@ -6,17 +6,27 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.lang.reflect.Method;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.ExportCommand.Since;
+import seedu.address.logic.commands.ExportJob.Column;
+import seedu.address.logic.commands.ExportJob.Format;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 /**
@@ -45,9 +55,7 @@ public class ExportCommandTest {
     public void execute_validFileName_success() throws IOException {
         String fileName = "test_contacts.csv";
         ExportCommand command = new ExportCommand(fileName);
-        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS, fileName));
-
-        assertCommandSuccess(command, model, expectedResult, model);
+        assertExportSuccess(command, model, fileName);
 
         exportedFile = new File(desktopPath + fileName);
         assertTrue(exportedFile.exists(), "Exported CSV file should exist on Desktop.");
@@ -62,10 +70,7 @@ public class ExportCommandTest {
     public void execute_missingExtension_autoAppendsCsv() {
         String fileName = "test_without_extension";
         ExportCommand command = new ExportCommand(fileName);
-        CommandResult expectedResult = new CommandResult(String.format(
-                ExportCommand.MESSAGE_SUCCESS, fileName + ".csv"));
-
-        assertCommandSuccess(command, model, expectedResult, model);
+        assertExportSuccess(command, model, fileName + ".csv");
 
         exportedFile = new File(desktopPath + fileName + ".csv");
         assertTrue(exportedFile.exists(), "File should be saved with .csv extension automatically");
@@ -76,9 +81,7 @@ public class ExportCommandTest {
         model = new ModelManager();
         String fileName = "empty_contacts.csv";
         ExportCommand command = new ExportCommand(fileName);
-        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS, fileName));
-
-        assertCommandSuccess(command, model, expectedResult, model);
+        assertExportSuccess(command, model, fileName);
 
         exportedFile = new File(desktopPath + fileName);
         assertTrue(exportedFile.exists(), "Empty export file should still be created.");
@@ -92,23 +95,95 @@ public class ExportCommandTest {
     }
 
     @Test
-    public void escapeCsv_nullInput_returnsEmptyString() throws Exception {
-        ExportCommand command = new ExportCommand("test.csv");
-        Method m = ExportCommand.class.getDeclaredMethod("escapeCsv", String.class);
-        m.setAccessible(true);
-        String result = (String) m.invoke(command, (String) null);
-        assertEquals("", result, "Null input should return empty string.");
+    public void execute_compressionEnabled_writesGzipFile() throws IOException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataCompressed(true);
+        model = new ModelManager(TypicalPersons.getTypicalAddressBook(), userPrefs);
+        String fileName = "compressed_contacts.csv";
+        ExportCommand command = new ExportCommand(fileName);
+        assertExportSuccess(command, model, fileName + ".gz");
+
+        exportedFile = new File(desktopPath + fileName + ".gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(exportedFile)), StandardCharsets.UTF_8))) {
+            assertEquals("Name,Phone,Email,Company,Detail,Tags", reader.readLine());
+        }
     }
 
     @Test
-    public void escapeCsv_withQuotes_escapesCorrectly() throws Exception {
-        ExportCommand command = new ExportCommand("test.csv");
-        Method m = ExportCommand.class.getDeclaredMethod("escapeCsv", String.class);
-        m.setAccessible(true);
-        String input = "Hello \"World\"";
-        String result = (String) m.invoke(command, input);
-        assertEquals("Hello \"\"World\"\"", result,
-                "Quotes inside fields should be doubled for valid CSV formatting.");
+    public void execute_fieldsWithQuotesAndLineBreaks_quotedPerRfc4180() throws IOException {
+        model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Amy Bee").withCompany("Bee, Inc")
+                .withDetail("Says \"hi\"\nevery day").withTags("friends").build());
+        String fileName = "quoted_contacts.csv";
+        ExportCommand command = new ExportCommand(fileName);
+        assertExportSuccess(command, model, fileName);
+
+        exportedFile = new File(desktopPath + fileName);
+        String expectedRow = "Amy Bee," + PersonBuilder.DEFAULT_PHONE + "," + PersonBuilder.DEFAULT_EMAIL
+                + ",\"Bee, Inc\",\"Says \"\"hi\"\"\nevery day\",friends\r\n";
+        assertEquals("Name,Phone,Email,Company,Detail,Tags\r\n" + expectedRow,
+                Files.readString(exportedFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_contactsChangedAfterwards_exportsSnapshot() throws IOException {
+        String fileName = "snapshot_contacts.csv";
+        CommandResult result = new ExportCommand(fileName).execute(model);
+        int exportedCount = model.getAddressBook().getPersonList().size();
+        model.addPerson(new PersonBuilder().build());
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, fileName),
+                result.getExportJob().get().run(written -> {}));
+        exportedFile = new File(desktopPath + fileName);
+        assertEquals(exportedCount + 1, Files.readAllLines(exportedFile.toPath()).size());
+    }
+
+    @Test
+    public void execute_filteredScopeWithColumnsAndFormat_exportsFilteredListOnly() throws IOException {
+        model.updateFilteredPersonList(person -> person.equals(TypicalPersons.ALICE));
+        String fileName = "filtered_contacts";
+        ExportCommand command = new ExportCommand(fileName, true, List.of(Column.NAME, Column.EMAIL), Format.JSONL);
+
+        assertExportSuccess(command, model, fileName + ".jsonl", 1);
+
+        exportedFile = new File(desktopPath + fileName + ".jsonl");
+        assertEquals("{\"name\":\"Alice Pauline\",\"email\":\"alice@example.com\"}\n",
+                Files.readString(exportedFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_sinceLastExport_exportsChangesAndMovesWatermarkOnSuccess() throws IOException {
+        String fileName = "changed_contacts.csv";
+        ExportCommand command = new ExportCommand(fileName, false, List.of(Column.NAME), Format.CSV,
+                Since.lastExport());
+        model.deletePerson(TypicalPersons.ALICE);
+        model.addPerson(new PersonBuilder().build());
+
+        ExportJob job = command.execute(model).getExportJob().get();
+        model.deletePerson(TypicalPersons.BENSON);
+        assertEquals(2, job.getSize());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, fileName), job.run(written -> {}));
+        exportedFile = new File(desktopPath + fileName);
+        assertEquals("Change,Name\r\ndeleted,Alice Pauline\r\nadded,Amy Bee\r\n",
+                Files.readString(exportedFile.toPath(), StandardCharsets.UTF_8));
+
+        // only the changes after the last export are exported next
+        job.getSuccessAction().get().run();
+        assertEquals(2, model.getChangeLog().getExportWatermark());
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED_CHANGES, 1, fileName), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_sinceTime_watermarkNotMoved() {
+        model.deletePerson(TypicalPersons.ALICE);
+        ExportCommand command = new ExportCommand("changed_contacts", false, List.of(Column.NAME), Format.CSV,
+                Since.time(Instant.EPOCH));
+
+        ExportJob job = command.execute(model).getExportJob().get();
+        assertEquals(1, job.getSize());
+        assertTrue(job.getSuccessAction().isEmpty());
     }
 
     @Test
@@ -131,10 +206,51 @@ public class ExportCommandTest {
         assertTrue(!a.equals(b), "Commands with different filenames should not be equal.");
     }
 
+    @Test
+    public void equals_differentScopeColumnsOrFormat_returnsFalse() {
+        ExportCommand a = new ExportCommand("file.csv", true, List.of(Column.NAME), Format.CSV);
+        assertTrue(a.equals(new ExportCommand("file.csv", true, List.of(Column.NAME), Format.CSV)));
+        assertTrue(!a.equals(new ExportCommand("file.csv", false, List.of(Column.NAME), Format.CSV)));
+        assertTrue(!a.equals(new ExportCommand("file.csv", true, List.of(Column.EMAIL), Format.CSV)));
+        assertTrue(!a.equals(new ExportCommand("file.csv", true, List.of(Column.NAME), Format.VCF)));
+    }
+
+    @Test
+    public void equals_differentSince_returnsFalse() {
+        ExportCommand a = new ExportCommand("file.csv", false, List.of(Column.NAME), Format.CSV, Since.lastExport());
+        assertTrue(a.equals(new ExportCommand("file.csv", false, List.of(Column.NAME), Format.CSV,
+                Since.lastExport())));
+        assertTrue(!a.equals(new ExportCommand("file.csv", false, List.of(Column.NAME), Format.CSV)));
+        assertTrue(!a.equals(new ExportCommand("file.csv", false, List.of(Column.NAME), Format.CSV,
+                Since.time(Instant.EPOCH))));
+    }
+
     @Test
     public void equals_differentType_returnsFalse() {
         ExportCommand a = new ExportCommand("file.csv");
         Object other = "not a command";
         assertTrue(!a.equals(other), "ExportCommand should not equal non-command objects.");
     }
+
+    /**
+     * Executes {@code command}, asserting that it starts exporting every contact in {@code model} to
+     * {@code exportedName} without changing {@code model}, then runs the export to completion.
+     */
+    private static void assertExportSuccess(ExportCommand command, Model model, String exportedName) {
+        assertExportSuccess(command, model, exportedName, model.getAddressBook().getPersonList().size());
+    }
+
+    /**
+     * Executes {@code command}, asserting that it starts exporting {@code size} contacts in {@code model} to
+     * {@code exportedName} without changing {@code model}, then runs the export to completion.
+     */
+    private static void assertExportSuccess(ExportCommand command, Model model, String exportedName, int size) {
+        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_STARTED,
+                size, exportedName));
+        assertCommandSuccess(command, model, expectedResult, model);
+
+        ExportJob job = command.execute(model).getExportJob().get();
+        assertEquals(size, job.getSize());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, exportedName), job.run(written -> {}));
+    }
 }
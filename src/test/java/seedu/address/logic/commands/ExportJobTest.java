@@ -0,0 +1,185 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportJob.Column;
+import seedu.address.logic.commands.ExportJob.Format;
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.ChangeLog.ChangeType;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportJobTest {
+
+    private static final Person AMY = new PersonBuilder().withCompany("Bee, Inc")
+            .withDetail("Says \"hi\"\nevery day").withTags("friends").build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_personsChangedAfterwards_snapshotUnchanged() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        ExportJob job = new ExportJob(persons, testFolder.resolve("contacts.csv"), false);
+        persons.clear();
+        assertEquals(getTypicalPersons().size(), job.getSize());
+    }
+
+    @Test
+    public void run_allRowsWritten_success() throws IOException {
+        Path path = testFolder.resolve("contacts.csv");
+        ExportJob job = new ExportJob(getTypicalPersons(), path, false);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, "contacts.csv"), job.run(written -> {}));
+        assertEquals(getTypicalPersons().size() + 1, Files.readAllLines(path).size());
+    }
+
+    @Test
+    public void run_csvWithChosenColumns_onlyChosenColumnsWritten() throws IOException {
+        Path path = testFolder.resolve("contacts.csv");
+        ExportJob job = new ExportJob(List.of(AMY), path, false, List.of(Column.EMAIL, Column.NAME), Format.CSV);
+
+        job.run(written -> {});
+        assertEquals("Email,Name\r\n" + PersonBuilder.DEFAULT_EMAIL + ",Amy Bee\r\n", Files.readString(path));
+    }
+
+    @Test
+    public void run_jsonLines_oneObjectPerLine() throws IOException {
+        Path path = testFolder.resolve("contacts.jsonl");
+        ExportJob job = new ExportJob(List.of(AMY, AMY), path, false,
+                List.of(Column.NAME, Column.DETAIL, Column.TAGS), Format.JSONL);
+
+        job.run(written -> {});
+        String expectedLine = "{\"name\":\"Amy Bee\",\"detail\":\"Says \\\"hi\\\"\\nevery day\","
+                + "\"tags\":[\"friends\"]}\n";
+        assertEquals(expectedLine + expectedLine, Files.readString(path));
+    }
+
+    @Test
+    public void run_vCard_nameAlwaysWrittenAndValuesEscaped() throws IOException {
+        Path path = testFolder.resolve("contacts.vcf");
+        ExportJob job = new ExportJob(List.of(AMY), path, false,
+                List.of(Column.PHONE, Column.COMPANY, Column.DETAIL, Column.TAGS), Format.VCF);
+
+        job.run(written -> {});
+        assertEquals("BEGIN:VCARD\r\nVERSION:3.0\r\nFN:Amy Bee\r\nN:Bee;Amy;;;\r\n"
+                + "TEL:" + PersonBuilder.DEFAULT_PHONE + "\r\nORG:Bee\\, Inc\r\n"
+                + "NOTE:Says \"hi\"\\nevery day\r\nCATEGORIES:friends\r\nEND:VCARD\r\n", Files.readString(path));
+    }
+
+    @Test
+    public void run_vCardLongValues_linesFolded() throws IOException {
+        Path path = testFolder.resolve("long.vcf");
+        Person person = new PersonBuilder().withName("Cher").withDetail("a".repeat(70) + "\u00e9".repeat(5)).build();
+        ExportJob job = new ExportJob(List.of(person), path, false, List.of(Column.DETAIL), Format.VCF);
+
+        job.run(written -> {});
+        // 75 octets to a line, counting the space that starts a continued line, without splitting the two-octet é
+        assertEquals("BEGIN:VCARD\r\nVERSION:3.0\r\nFN:Cher\r\nN:Cher;;;;\r\n"
+                + "NOTE:" + "a".repeat(70) + "\r\n \u00e9\u00e9\u00e9\u00e9\u00e9\r\nEND:VCARD\r\n",
+                Files.readString(path));
+    }
+
+    @Test
+    public void run_changes_changeWrittenFirst() throws IOException {
+        List<Change> changes = List.of(new Change(AMY, ChangeType.EDITED, 2));
+        Path csvPath = testFolder.resolve("changes.csv");
+        ExportJob.forChanges(changes, csvPath, false, List.of(Column.NAME), Format.CSV).run(written -> {});
+        assertEquals("Change,Name\r\nedited,Amy Bee\r\n", Files.readString(csvPath));
+
+        Path jsonPath = testFolder.resolve("changes.jsonl");
+        ExportJob.forChanges(changes, jsonPath, false, List.of(Column.NAME), Format.JSONL).run(written -> {});
+        assertEquals("{\"change\":\"edited\",\"name\":\"Amy Bee\"}\n", Files.readString(jsonPath));
+
+        Path vCardPath = testFolder.resolve("changes.vcf");
+        ExportJob.forChanges(changes, vCardPath, false, List.of(Column.NAME), Format.VCF).run(written -> {});
+        assertEquals("BEGIN:VCARD\r\nVERSION:3.0\r\nX-FASTCARD-CHANGE:edited\r\nFN:Amy Bee\r\nN:Bee;Amy;;;\r\n"
+                + "END:VCARD\r\n", Files.readString(vCardPath));
+    }
+
+    @Test
+    public void run_success_markedSucceeded() {
+        ExportJob job = new ExportJob(getTypicalPersons(), testFolder.resolve("contacts.csv"), false);
+        assertFalse(job.isSucceeded());
+        job.run(written -> {});
+        assertTrue(job.isSucceeded());
+
+        ExportJob cancelledJob = new ExportJob(getTypicalPersons(), testFolder.resolve("cancelled.csv"), false);
+        cancelledJob.cancel();
+        cancelledJob.run(written -> {});
+        assertFalse(cancelledJob.isSucceeded());
+    }
+
+    @Test
+    public void run_cancelledBeforeStart_fileDeleted() {
+        Path path = testFolder.resolve("contacts.csv");
+        ExportJob job = new ExportJob(getTypicalPersons(), path, false);
+        job.cancel();
+
+        assertEquals(String.format(ExportJob.MESSAGE_CANCELLED, "contacts.csv"), job.run(written -> {}));
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void run_cancelledWhileWriting_stopsAndDeletesPartialFile() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3 * ExportJob.PROGRESS_INTERVAL; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        Path path = testFolder.resolve("contacts.csv");
+        ExportJob job = new ExportJob(persons, path, false);
+        List<Integer> progress = new ArrayList<>();
+
+        String message = job.run(written -> {
+            progress.add(written);
+            job.cancel();
+        });
+
+        assertEquals(String.format(ExportJob.MESSAGE_CANCELLED, "contacts.csv"), message);
+        assertEquals(List.of(ExportJob.PROGRESS_INTERVAL), progress);
+        assertTrue(job.isCancelled());
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void run_writeFails_deletesPartialFile() {
+        Path path = testFolder.resolve("contacts.csv");
+        ExportJob job = new ExportJob(getTypicalPersons(), path, false) {
+            @Override
+            Writer openWriter() throws IOException {
+                return new FilterWriter(super.openWriter()) {
+                    @Override
+                    public void flush() throws IOException {
+                        throw new IOException("disk full");
+                    }
+                };
+            }
+        };
+
+        String message = job.run(written -> {});
+        assertEquals(String.format(ExportCommand.MESSAGE_FAILURE, "disk full"), message);
+        assertFalse(job.isSucceeded());
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void run_missingFolder_failure() {
+        ExportJob job = new ExportJob(getTypicalPersons(), testFolder.resolve("missing").resolve("contacts.csv"),
+                false);
+        assertTrue(job.run(written -> {}).startsWith(String.format(ExportCommand.MESSAGE_FAILURE, "")));
+    }
+}
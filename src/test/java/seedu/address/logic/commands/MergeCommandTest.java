@@ -0,0 +1,167 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code MergeCommand}.
+ */
+public class MergeCommandTest {
+
+    private static final Index INDEX_FOURTH_PERSON = Index.fromOneBased(4);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_singlePair_success() {
+        MergeCommand mergeCommand = new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+        Person mergedAlice = new PersonBuilder(ALICE).withTags("friends", "owesMoney").build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, mergedAlice);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(mergeCommand, model, String.format(MergeCommand.MESSAGE_MERGE_SUCCESS, 2, 1),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_multipleClusters_success() {
+        MergeCommand mergeCommand = new MergeCommand(List.of(
+                List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                List.of(INDEX_THIRD_PERSON, INDEX_FOURTH_PERSON)));
+        Person mergedAlice = new PersonBuilder(ALICE).withTags("friends", "owesMoney").build();
+        Person mergedCarl = new PersonBuilder(CARL).withTags("friends").build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, mergedAlice);
+        expectedModel.setPerson(CARL, mergedCarl);
+        expectedModel.deletePerson(BENSON);
+        expectedModel.deletePerson(DANIEL);
+
+        assertCommandSuccess(mergeCommand, model, String.format(MergeCommand.MESSAGE_MERGE_SUCCESS, 4, 2),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_placeholderFields_filledFromDuplicate() {
+        Person primary = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withEmail("unknown@example.com").withCompany("N/A").build();
+        Person duplicate = new PersonBuilder().withName("Amy Bee").withPhone("22222222")
+                .withEmail("amy@example.com").withCompany("Acme Corp").withDetail("Met at career fair")
+                .withTags("recruiter").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(primary);
+        addressBook.addPerson(duplicate);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        MergeCommand mergeCommand = new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+        Person expectedPerson = new PersonBuilder(duplicate).withPhone("11111111").build();
+
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        expectedModel.addPerson(expectedPerson);
+
+        assertCommandSuccess(mergeCommand, model, String.format(MergeCommand.MESSAGE_MERGE_SUCCESS, 2, 1),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_manyClusters_singleListChange() throws Exception {
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        new MergeCommand(List.of(
+                List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                List.of(INDEX_THIRD_PERSON, INDEX_FOURTH_PERSON))).execute(model);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(5, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_focusedPersonMerged_focusCleared() throws Exception {
+        model.updateFocusedPerson(1);
+
+        new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))).execute(model);
+
+        assertNull(model.getFocusedPerson().get());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        MergeCommand mergeCommand = new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, outOfBoundIndex)));
+
+        assertCommandFailure(mergeCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_repeatedIndex_throwsCommandException() {
+        MergeCommand mergeCommand = new MergeCommand(List.of(
+                List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                List.of(INDEX_SECOND_PERSON, INDEX_THIRD_PERSON)));
+
+        assertCommandFailure(mergeCommand, model, MergeCommand.MESSAGE_DUPLICATE_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        List<List<Index>> firstClusters = List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+        List<List<Index>> secondClusters = List.of(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+        MergeCommand mergeFirstCommand = new MergeCommand(firstClusters);
+
+        // same object -> returns true
+        assertTrue(mergeFirstCommand.equals(mergeFirstCommand));
+
+        // same values -> returns true
+        assertTrue(mergeFirstCommand.equals(new MergeCommand(
+                Collections.singletonList(Arrays.asList(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)))));
+
+        // different types -> returns false
+        assertFalse(mergeFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mergeFirstCommand.equals(null));
+
+        // different clusters -> returns false
+        assertFalse(mergeFirstCommand.equals(new MergeCommand(secondClusters)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<List<Index>> clusters = List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+        MergeCommand mergeCommand = new MergeCommand(clusters);
+        String expected = MergeCommand.class.getCanonicalName() + "{clusters=" + clusters + "}";
+
+        assertEquals(expected, mergeCommand.toString());
+    }
+}
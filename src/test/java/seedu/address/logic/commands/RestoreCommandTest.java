@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BackupStore;
+
+public class RestoreCommandTest {
+
+    private static final Instant BACKUP_TIME = Instant.parse("2025-01-01T09:30:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private BackupStore backupStore;
+
+    @BeforeEach
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("fastcard.json"));
+        model = new ModelManager(new AddressBook(), userPrefs);
+        backupStore = new BackupStore(BackupStore.getBackupDirectory(model.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void execute_noBackupId_backupsListed() throws Exception {
+        assertEquals(RestoreCommand.MESSAGE_NO_BACKUPS, new RestoreCommand().execute(model).getFeedbackToUser());
+
+        BackupStore.Backup older = backupStore.createBackup(new AddressBook(), BACKUP_TIME);
+        BackupStore.Backup newer = backupStore.createBackup(getTypicalAddressBook(), BACKUP_TIME.plusSeconds(60));
+        String expectedEntries = String.format(RestoreCommand.MESSAGE_BACKUP_ENTRY, newer.getId(),
+                getTypicalAddressBook().getPersonList().size())
+                + String.format(RestoreCommand.MESSAGE_BACKUP_ENTRY, older.getId(), 0);
+        assertEquals(String.format(RestoreCommand.MESSAGE_BACKUP_LIST, expectedEntries),
+                new RestoreCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_backupId_contactBookReplacedAndPreviousBackedUp() throws Exception {
+        BackupStore.Backup backup = backupStore.createBackup(getTypicalAddressBook(), BACKUP_TIME);
+
+        CommandResult result = new RestoreCommand(backup.getId()).execute(model);
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        BackupStore.Backup previous = backupStore.listBackups().get(0);
+        assertEquals(String.format(RestoreCommand.MESSAGE_SUCCESS, getTypicalAddressBook().getPersonList().size(),
+                backup.getId(), previous.getId()), result.getFeedbackToUser());
+        assertEquals(new AddressBook(), backupStore.restore(previous.getId()));
+    }
+
+    @Test
+    public void execute_unknownBackupId_throwsCommandException() {
+        String expectedMessage = String.format(RestoreCommand.MESSAGE_FAILURE,
+                String.format(BackupStore.MESSAGE_BACKUP_NOT_FOUND, "20250101-093000"));
+        assertCommandFailure(new RestoreCommand("20250101-093000"), model, expectedMessage);
+    }
+
+    @Test
+    public void changesContactBook() {
+        assertFalse(new RestoreCommand().changesContactBook());
+        assertTrue(new RestoreCommand("20250101-093000").changesContactBook());
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreCommand = new RestoreCommand("20250101-093000");
+        assertTrue(restoreCommand.equals(restoreCommand));
+        assertTrue(restoreCommand.equals(new RestoreCommand("20250101-093000")));
+        assertFalse(restoreCommand.equals(new RestoreCommand()));
+        assertFalse(restoreCommand.equals(null));
+    }
+}
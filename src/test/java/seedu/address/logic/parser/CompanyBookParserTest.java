@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.JADON;
 
 import java.util.Arrays;
@@ -27,6 +28,7 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameOrCompanyPredicate;
@@ -123,6 +125,12 @@ public class CompanyBookParserTest {
         assertEquals(new FilterCommand(new TagsContainTagPredicate(tags)), command);
     }
 
+    @Test
+    public void parseCommand_merge() throws Exception {
+        MergeCommand command = (MergeCommand) parser.parseCommand(MergeCommand.COMMAND_WORD + " 1 2");
+        assertEquals(new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
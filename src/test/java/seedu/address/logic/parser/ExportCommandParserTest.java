@@ -2,11 +2,21 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Since;
+import seedu.address.logic.commands.ExportJob.Column;
+import seedu.address.logic.commands.ExportJob.Format;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -112,6 +122,80 @@ public class ExportCommandParserTest {
                 "Parser should reject filenames containing mixed slashes ('/' or '\\').");
     }
 
+    @Test
+    public void parse_filenameWithExtension_success() throws Exception {
+        assertEquals(new ExportCommand("x.csv"), parser.parse(" f/x.csv"));
+    }
+
+    @Test
+    public void parse_scopeColumnsAndFormat_success() throws Exception {
+        ExportCommand expectedCommand = new ExportCommand("x.csv", true, List.of(Column.NAME, Column.EMAIL),
+                Format.CSV);
+        assertEquals(expectedCommand, parser.parse(" f/x.csv scope/filtered cols/name,email fmt/csv"));
+
+        // keywords are case-insensitive and columns keep the order given
+        expectedCommand = new ExportCommand("x", false, List.of(Column.TAGS, Column.PHONE), Format.VCF);
+        assertEquals(expectedCommand, parser.parse(" f/x scope/ALL cols/Tags, phone fmt/VCF"));
+
+        expectedCommand = new ExportCommand("x", false, List.of(Column.values()), Format.JSONL);
+        assertEquals(expectedCommand, parser.parse(" f/x fmt/jsonl"));
+    }
+
+    @Test
+    public void parse_invalidScope_throwsParseException() {
+        assertParseFailure(parser, " f/x scope/visible", ExportCommandParser.MESSAGE_INVALID_SCOPE);
+    }
+
+    @Test
+    public void parse_invalidColumn_throwsParseException() {
+        assertParseFailure(parser, " f/x cols/name,address",
+                String.format(ExportCommandParser.MESSAGE_INVALID_COLUMN, "address"));
+        assertParseFailure(parser, " f/x cols/", String.format(ExportCommandParser.MESSAGE_INVALID_COLUMN, ""));
+    }
+
+    @Test
+    public void parse_duplicateColumn_throwsParseException() {
+        assertParseFailure(parser, " f/x cols/name,NAME",
+                String.format(ExportCommandParser.MESSAGE_DUPLICATE_COLUMN, "NAME"));
+    }
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        assertParseFailure(parser, " f/x fmt/xlsx", ExportCommandParser.MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_since_success() throws Exception {
+        List<Column> allColumns = List.of(Column.values());
+        assertEquals(new ExportCommand("x", false, allColumns, Format.CSV, Since.lastExport()),
+                parser.parse(" f/x since/LAST"));
+
+        ZoneId zone = ZoneId.systemDefault();
+        Instant startOfDay = LocalDate.of(2024, 3, 1).atStartOfDay(zone).toInstant();
+        assertEquals(new ExportCommand("x", false, allColumns, Format.CSV, Since.time(startOfDay)),
+                parser.parse(" f/x since/2024-03-01"));
+
+        Instant localTime = LocalDateTime.of(2024, 3, 1, 9, 30).atZone(zone).toInstant();
+        assertEquals(new ExportCommand("x", false, allColumns, Format.CSV, Since.time(localTime)),
+                parser.parse(" f/x since/2024-03-01T09:30"));
+
+        Instant offsetTime = Instant.parse("2024-03-01T01:30:00Z");
+        assertEquals(new ExportCommand("x", false, allColumns, Format.CSV, Since.time(offsetTime)),
+                parser.parse(" f/x since/2024-03-01T09:30+08:00"));
+    }
+
+    @Test
+    public void parse_invalidSince_throwsParseException() {
+        assertParseFailure(parser, " f/x since/yesterday", ExportCommandParser.MESSAGE_INVALID_SINCE);
+        assertParseFailure(parser, " f/x since/2024-13-01", ExportCommandParser.MESSAGE_INVALID_SINCE);
+        assertParseFailure(parser, " f/x since/last scope/filtered", ExportCommandParser.MESSAGE_SINCE_WITH_FILTERED);
+    }
+
+    @Test
+    public void parse_duplicateFormatPrefixes_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" f/x fmt/csv fmt/vcf"));
+    }
+
     @Test
     public void parse_duplicateFilePrefixes_throwsParseException() {
         // multiple f/ prefixes are not allowed
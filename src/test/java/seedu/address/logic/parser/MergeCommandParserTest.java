@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MergeCommand;
+
+public class MergeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE);
+
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_singlePair_returnsMergeCommand() {
+        assertParseSuccess(parser, " 1 2",
+                new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))));
+        assertParseSuccess(parser, " 1,2",
+                new MergeCommand(List.of(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))));
+    }
+
+    @Test
+    public void parse_multipleClusters_returnsMergeCommand() {
+        Index fourth = Index.fromOneBased(4);
+        Index fifth = Index.fromOneBased(5);
+        MergeCommand expectedCommand = new MergeCommand(List.of(
+                List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON),
+                List.of(fifth, fourth)));
+
+        assertParseSuccess(parser, "1 2 3; 5 4", expectedCommand);
+        assertParseSuccess(parser, " 1, 2, 3 ;5,4; ", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no arguments
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ; ", MESSAGE_INVALID_FORMAT);
+
+        // group with a single index
+        assertParseFailure(parser, "1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2; 3", MESSAGE_INVALID_FORMAT);
+
+        // invalid index
+        assertParseFailure(parser, "1 a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-1 1", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_repeatedIndex_throwsParseException() {
+        assertParseFailure(parser, "1 1", MergeCommand.MESSAGE_DUPLICATE_INDEX);
+        assertParseFailure(parser, "1 2; 3 2", MergeCommand.MESSAGE_DUPLICATE_INDEX);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.RestoreCommand;
+
+public class RestoreCommandParserTest {
+
+    private RestoreCommandParser parser = new RestoreCommandParser();
+    private final AddressBookParser abParser = new AddressBookParser();
+
+    @Test
+    public void parse_validArgs_returnsRestoreCommand() {
+        assertParseSuccess(parser, "   ", new RestoreCommand());
+        assertParseSuccess(parser, " 20250101-093000 ", new RestoreCommand("20250101-093000"));
+        assertParseSuccess(parser, "20250101-093000-2", new RestoreCommand("20250101-093000-2"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedResult = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "latest", expectedResult);
+        assertParseFailure(parser, "20250101-093000 20250102-093000", expectedResult);
+        assertParseFailure(parser, "../20250101-093000", expectedResult);
+    }
+
+    @Test
+    public void addressBook_parseCommand_valid() throws Exception {
+        assertEquals(new RestoreCommand("20250101-093000"),
+                abParser.parseCommand(RestoreCommand.COMMAND_WORD + " 20250101-093000"));
+        assertEquals(new BackupCommand(), abParser.parseCommand(BackupCommand.COMMAND_WORD));
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.ChangeLog.ChangeType;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeLogTest {
+
+    private static final Instant START = Instant.parse("2024-03-01T09:00:00Z");
+
+    private final SteppingClock clock = new SteppingClock();
+    private final ChangeLog changeLog = new ChangeLog(clock);
+
+    @Test
+    public void record_addEditDelete_latestChangeKeptPerContact() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@fastcard.com").build();
+        changeLog.record(List.of(), List.of(ALICE, BENSON));
+        changeLog.record(List.of(ALICE), List.of(editedAlice));
+        changeLog.record(List.of(BENSON), List.of());
+
+        assertEquals(4, changeLog.getSequence());
+        assertEquals(List.of(new Change(editedAlice, ChangeType.ADDED, 3)), changeLog.getChangesSince(0));
+        assertEquals(List.of(new Change(editedAlice, ChangeType.EDITED, 3), new Change(BENSON, ChangeType.DELETED, 4)),
+                changeLog.getChangesSince(2));
+        assertEquals(List.of(new Change(BENSON, ChangeType.DELETED, 4)), changeLog.getChangesSince(3));
+        assertTrue(changeLog.getChangesSince(4).isEmpty());
+    }
+
+    @Test
+    public void record_unchangedOrMoved_notRecorded() {
+        changeLog.record(List.of(ALICE, BENSON), List.of(BENSON, ALICE));
+        assertEquals(ChangeLog.NO_SEQUENCE, changeLog.getSequence());
+        assertTrue(changeLog.getEntries().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_contactAddedBeforeRecording_reportedAsEdited() {
+        Person editedCarl = new PersonBuilder(CARL).withEmail("carl@fastcard.com").build();
+        changeLog.record(List.of(CARL), List.of(editedCarl));
+        changeLog.record(List.of(ALICE), List.of());
+
+        assertEquals(List.of(new Change(editedCarl, ChangeType.EDITED, 1), new Change(ALICE, ChangeType.DELETED, 2)),
+                changeLog.getChangesSince(ChangeLog.NO_SEQUENCE));
+    }
+
+    @Test
+    public void getChangesSince_time_onlyLaterChanges() {
+        changeLog.record(List.of(), List.of(ALICE));
+        Instant afterAlice = clock.instant();
+        changeLog.record(List.of(), List.of(BENSON));
+
+        assertEquals(List.of(new Change(BENSON, ChangeType.ADDED, 2)), changeLog.getChangesSince(afterAlice));
+        assertEquals(2, changeLog.getChangesSince(START.minusSeconds(1)).size());
+    }
+
+    @Test
+    public void resetData_copiesEntriesSequenceAndWatermark() {
+        changeLog.record(List.of(), List.of(ALICE));
+        changeLog.setExportWatermark(1);
+        ChangeLog copy = new ChangeLog();
+        copy.resetData(changeLog);
+
+        assertEquals(changeLog, copy);
+        assertEquals(1, copy.getExportWatermark());
+    }
+
+    @Test
+    public void setExportWatermark_exportedChangesDropped() {
+        changeLog.record(List.of(), List.of(ALICE, BENSON));
+        changeLog.record(List.of(BENSON), List.of());
+        changeLog.setExportWatermark(2);
+
+        assertEquals(1, changeLog.getEntries().size());
+        assertEquals(List.of(new Change(BENSON, ChangeType.DELETED, 3)),
+                changeLog.getChangesSince(changeLog.getExportWatermark()));
+    }
+
+    @Test
+    public void reconcile_contactBookBehindChangeLog_contactBookStateRecorded() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@fastcard.com").build();
+        changeLog.record(List.of(), List.of(ALICE, BENSON));
+        changeLog.record(List.of(CARL), List.of());
+        long sequence = changeLog.getSequence();
+
+        // The contact book was saved with Alice edited, without Benson, and before Carl was deleted
+        changeLog.reconcile(List.of(editedAlice, CARL));
+
+        assertEquals(Map.of(editedAlice, ChangeType.EDITED, CARL, ChangeType.ADDED, BENSON, ChangeType.DELETED),
+                changeLog.getChangesSince(sequence).stream()
+                        .collect(Collectors.toMap(Change::getPerson, Change::getType)));
+
+        ChangeLog reconciled = new ChangeLog(changeLog);
+        changeLog.reconcile(List.of(editedAlice, CARL));
+        assertEquals(reconciled, changeLog);
+    }
+
+    @Test
+    public void modelManager_changesRecordedButLoadedContactsNot() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.loadPersons(List.of(ALICE));
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(List.of(new Change(BENSON, ChangeType.ADDED, 1), new Change(ALICE, ChangeType.DELETED, 2)),
+                modelManager.getChangeLog().getChangesSince(ChangeLog.NO_SEQUENCE));
+    }
+
+    /**
+     * A clock that moves forward by a second every time it is read.
+     */
+    private static class SteppingClock extends Clock {
+        private Instant now = START;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            now = now.plusSeconds(1);
+            return now;
+        }
+    }
+}
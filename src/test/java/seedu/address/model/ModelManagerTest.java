@@ -7,6 +7,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.lang.reflect.Field;
 import java.nio.file.Path;
@@ -15,6 +16,7 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -144,6 +146,52 @@ public class ModelManagerTest {
         assertThrows(AssertionError.class, () -> manager.deletePerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookVersion_addressBookModified_increases() {
+        long initialVersion = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(initialVersion, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getAddressBookVersion() > initialVersion);
+    }
+
+    @Test
+    public void batch_nullMutations_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.batch(null));
+    }
+
+    @Test
+    public void batch_multipleMutations_singleChangeNotified() {
+        modelManager.addPerson(ALICE);
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.batch(addressBook -> {
+            addressBook.addPerson(BENSON);
+            addressBook.addPerson(CARL);
+            addressBook.removePerson(ALICE);
+            assertEquals(0, changeCount[0]);
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_mutationThrows_addressBookUnchanged() {
+        modelManager.addPerson(ALICE);
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(ALICE).build();
+
+        assertThrows(PersonNotFoundException.class, () -> modelManager.batch(addressBook -> {
+            addressBook.addPerson(BENSON);
+            addressBook.removePerson(CARL);
+        }));
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -2,8 +2,10 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
@@ -53,6 +55,18 @@ public class PersonTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same identity -> same key
+        Person editedBob = new PersonBuilder(BOB).withName(" " + VALID_NAME_BOB.toUpperCase() + " ")
+                .withEmail(VALID_EMAIL_AMY).build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+
+        // different phone -> different key
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertNotEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -8,13 +8,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,6 +170,142 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void replaceAndRemove_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.replaceAndRemove(null, List.of()));
+        assertThrows(NullPointerException.class, () -> uniquePersonList.replaceAndRemove(Map.of(), null));
+    }
+
+    @Test
+    public void replaceAndRemove_targetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAndRemove(Map.of(), List.of(BOB)));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAndRemove(Map.of(BOB, BOB),
+                List.of()));
+    }
+
+    @Test
+    public void replaceAndRemove_validArguments_replacesAndRemoves() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).withTags(VALID_TAG_HUSBAND)
+                .build();
+        uniquePersonList.replaceAndRemove(Map.of(ALICE, editedAlice), List.of(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedAlice);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void replaceAndRemove_replacementHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAndRemove(Map.of(ALICE, BOB),
+                List.of()));
+    }
+
+    @Test
+    public void endBatch_noBatchInProgress_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.endBatch(true));
+    }
+
+    @Test
+    public void endBatch_nestedBatches_changesPublishedByOutermostBatch() {
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.endBatch(true);
+
+        assertTrue(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+
+        uniquePersonList.endBatch(true);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void endBatch_unsuccessful_changesDiscarded() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.endBatch(false);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void endBatch_fewChanges_onlyChangedPersonsPublished() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.add(ELLE);
+        uniquePersonList.endBatch(true);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(ALICE, CARL), removed);
+        assertEquals(List.of(editedAlice, ELLE), added);
+        assertEquals(List.of(editedAlice, BOB, DANIEL, ELLE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void endBatch_personChangedTwice_latestPublished() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPerson(CARL, DANIEL);
+        uniquePersonList.remove(editedAlice);
+        List<Person> workingList = new ArrayList<>();
+        uniquePersonList.forEach(workingList::add);
+        assertEquals(List.of(BOB, DANIEL), workingList);
+        uniquePersonList.endBatch(true);
+
+        assertEquals(List.of(BOB, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void sort_unsortedList_publishedAsPermutation() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        List<Boolean> permutated = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                permutated.add(change.wasPermutated());
+            }
+        });
+
+        uniquePersonList.sort(Comparator.comparing(person -> person.getName().fullName));
+
+        assertEquals(List.of(true), permutated);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BPlusTreeTest {
+
+    private static final int CAPACITY = 8;
+    private static final int KEY_COUNT = 3000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void put_manyKeys_allRetrievableInOrder() throws Exception {
+        Path filePath = testFolder.resolve("many.db");
+        try (Pager pager = Pager.open(filePath, CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            // inserting in a scattered order splits both leaves and internal nodes
+            for (int i = 0; i < KEY_COUNT; i++) {
+                int n = (i * 7919) % KEY_COUNT;
+                tree.put(key(n), value(n));
+            }
+            pager.commit();
+        }
+
+        try (Pager pager = Pager.open(filePath, CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertArrayEquals(value(i), tree.get(key(i)));
+            }
+            assertNull(tree.get(key(KEY_COUNT)));
+
+            List<byte[]> keys = new ArrayList<>();
+            tree.scan(null, (key, value) -> keys.add(key));
+            assertEquals(KEY_COUNT, keys.size());
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertArrayEquals(key(i), keys.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void put_existingKey_valueReplaced() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("replace.db"), CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            tree.put(key(1), value(1));
+            tree.put(key(1), value(2));
+            assertArrayEquals(value(2), tree.get(key(1)));
+        }
+    }
+
+    @Test
+    public void put_largeValue_storedInOverflowPages() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("overflow.db"), CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            byte[] large = new byte[Pager.PAGE_SIZE * 3 + 17];
+            Arrays.fill(large, (byte) 'x');
+            tree.put(key(1), large);
+            assertArrayEquals(large, tree.get(key(1)));
+            int pageCount = pager.getPageCount();
+
+            // the overflow pages are freed and reused when the value is replaced
+            tree.put(key(1), value(1));
+            tree.put(key(2), large);
+            assertEquals(pageCount, pager.getPageCount());
+            assertArrayEquals(large, tree.get(key(2)));
+        }
+    }
+
+    @Test
+    public void put_keyTooLong_throwsIllegalArgumentException() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("longKey.db"), CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            assertThrows(IllegalArgumentException.class, () ->
+                    tree.put(new byte[BPlusTree.MAX_KEY_SIZE + 1], value(1)));
+        }
+    }
+
+    @Test
+    public void remove_someKeys_othersRemain() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("remove.db"), CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            for (int i = 0; i < KEY_COUNT; i++) {
+                tree.put(key(i), value(i));
+            }
+            for (int i = 0; i < KEY_COUNT; i += 2) {
+                assertTrue(tree.remove(key(i)));
+            }
+            assertFalse(tree.remove(key(0)));
+
+            for (int i = 0; i < KEY_COUNT; i++) {
+                if (i % 2 == 0) {
+                    assertNull(tree.get(key(i)));
+                } else {
+                    assertArrayEquals(value(i), tree.get(key(i)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void scan_fromKey_startsAtKeyAndStopsWhenVisitorDeclines() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("scan.db"), CAPACITY)) {
+            BPlusTree tree = new BPlusTree(pager, 0);
+            for (int i = 0; i < 100; i++) {
+                tree.put(key(i), value(i));
+            }
+
+            List<byte[]> keys = new ArrayList<>();
+            tree.scan(key(40), (key, value) -> keys.add(key) && keys.size() < 5);
+            assertEquals(5, keys.size());
+            assertArrayEquals(key(40), keys.get(0));
+            assertArrayEquals(key(44), keys.get(4));
+        }
+    }
+
+    private static byte[] key(int n) {
+        return String.format("key-%06d", n).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] value(int n) {
+        return ("value of " + n).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BackupStoreTest {
+
+    private static final int LARGE_BOOK_SIZE = 2000;
+    private static final Instant FIRST_TIME = Instant.parse("2025-01-01T09:30:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBackupDirectory() {
+        assertEquals(testFolder.resolve("fastcard.json-backups"),
+                BackupStore.getBackupDirectory(testFolder.resolve("fastcard.json")));
+    }
+
+    @Test
+    public void createBackupAndRestore_allInOrder_success() throws Exception {
+        BackupStore store = new BackupStore(testFolder);
+        assertEquals(List.of(), store.listBackups());
+
+        BackupStore.Backup first = store.createBackup(getTypicalAddressBook(), FIRST_TIME);
+        BackupStore.Backup second = store.createBackup(new AddressBook(), FIRST_TIME);
+
+        assertEquals(getTypicalAddressBook().getPersonList().size(), first.getPersonCount());
+        assertTrue(first.getNewBytes() > 0);
+        assertEquals(first.getId() + "-2", second.getId());
+        assertEquals(List.of(second.getId(), first.getId()),
+                store.listBackups().stream().map(BackupStore.Backup::getId).collect(Collectors.toList()));
+        assertEquals(getTypicalAddressBook(), store.restore(first.getId()));
+        assertEquals(new AddressBook(), store.restore(second.getId()));
+    }
+
+    @Test
+    public void createBackup_onePersonEdited_onlyNearbyChunksWritten() throws Exception {
+        BackupStore store = new BackupStore(testFolder);
+        AddressBook addressBook = createLargeAddressBook();
+        BackupStore.Backup first = store.createBackup(addressBook, FIRST_TIME);
+
+        BackupStore.Backup unchanged = store.createBackup(addressBook, FIRST_TIME.plusSeconds(1));
+        assertEquals(0, unchanged.getNewBytes());
+
+        Person target = addressBook.getPersonList().get(LARGE_BOOK_SIZE / 2);
+        addressBook.setPerson(target, new PersonBuilder(target).withCompany("Edited Company").build());
+        BackupStore.Backup edited = store.createBackup(addressBook, FIRST_TIME.plusSeconds(2));
+
+        assertTrue(edited.getNewBytes() > 0);
+        assertTrue(edited.getNewBytes() <= 3 * BackupStore.MAX_CHUNK_SIZE);
+        assertTrue(edited.getNewBytes() * 20 < first.getNewBytes());
+        assertEquals(addressBook, store.restore(edited.getId()));
+    }
+
+    @Test
+    public void prune_moreThanRetained_oldestDeletedWithUnusedChunks() throws Exception {
+        BackupStore store = new BackupStore(testFolder);
+        AddressBook addressBook = createLargeAddressBook();
+        BackupStore.Backup oldest = store.createBackup(getTypicalAddressBook(), FIRST_TIME);
+        store.createBackup(addressBook, FIRST_TIME.plusSeconds(1));
+        BackupStore.Backup newest = store.createBackup(addressBook, FIRST_TIME.plusSeconds(2));
+        long chunkCountBefore = countChunks();
+
+        assertEquals(1, store.prune(2));
+        assertEquals(0, store.prune(2));
+
+        assertEquals(2, store.listBackups().size());
+        assertTrue(countChunks() < chunkCountBefore);
+        assertThrows(IOException.class, String.format(BackupStore.MESSAGE_BACKUP_NOT_FOUND, oldest.getId()), () ->
+                store.restore(oldest.getId()));
+        assertEquals(addressBook, store.restore(newest.getId()));
+    }
+
+    @Test
+    public void restore_chunkCorrupted_throwsIoException() throws Exception {
+        BackupStore store = new BackupStore(testFolder);
+        BackupStore.Backup backup = store.createBackup(getTypicalAddressBook(), FIRST_TIME);
+        try (Stream<Path> paths = Files.walk(testFolder.resolve("chunks"))) {
+            Path chunk = paths.filter(Files::isRegularFile).findFirst().get();
+            Files.writeString(chunk, "corrupted");
+        }
+
+        assertThrows(IOException.class, () -> store.restore(backup.getId()));
+        assertThrows(IOException.class, String.format(BackupStore.MESSAGE_BACKUP_NOT_FOUND, "../x"), () ->
+                store.restore("../x"));
+    }
+
+    @Test
+    public void createBackup_chunkCorrupted_chunkRewritten() throws Exception {
+        BackupStore store = new BackupStore(testFolder);
+        BackupStore.Backup damaged = store.createBackup(getTypicalAddressBook(), FIRST_TIME);
+        try (Stream<Path> paths = Files.walk(testFolder.resolve("chunks"))) {
+            Path chunk = paths.filter(Files::isRegularFile).findFirst().get();
+            Files.writeString(chunk, "corrupted");
+        }
+
+        BackupStore.Backup repaired = store.createBackup(getTypicalAddressBook(), FIRST_TIME.plusSeconds(1));
+
+        assertTrue(repaired.getNewBytes() > 0);
+        assertEquals(getTypicalAddressBook(), store.restore(repaired.getId()));
+        assertEquals(getTypicalAddressBook(), store.restore(damaged.getId()));
+    }
+
+    private long countChunks() throws IOException {
+        try (Stream<Path> paths = Files.walk(testFolder.resolve("chunks"))) {
+            return paths.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static AddressBook createLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < LARGE_BOOK_SIZE; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookFormatTest {
+
+    private static final Path TYPICAL_PERSONS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @Test
+    public void read_writtenAddressBook_sameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Zoe Angstrom").withPhone("98765")
+                .withDetail("Met at the café in 東京 🙂").withTags("uberFriend").build());
+
+        assertEquals(addressBook, BinaryAddressBookFormat.read(toBytes(addressBook)));
+    }
+
+    @Test
+    public void read_emptyAddressBook_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), BinaryAddressBookFormat.read(toBytes(new AddressBook())));
+    }
+
+    @Test
+    public void read_sharedCompany_singleCompanyInstance() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withPhone("111").withCompany("Acme").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("222").withCompany("Acme").build());
+
+        AddressBook readBack = BinaryAddressBookFormat.read(toBytes(addressBook));
+
+        assertSame(readBack.getPersonList().get(0).getCompany(), readBack.getPersonList().get(1).getCompany());
+    }
+
+    @Test
+    public void write_typicalPersons_smallerThanJson() throws Exception {
+        assertTrue(toBytes(getTypicalAddressBook()).length < Files.size(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void isSnapshot() throws Exception {
+        assertTrue(BinaryAddressBookFormat.isSnapshot(toBytes(new AddressBook())));
+        assertFalse(BinaryAddressBookFormat.isSnapshot("{}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(BinaryAddressBookFormat.isSnapshot(new byte[0]));
+    }
+
+    @Test
+    public void read_notSnapshot_throwsIoException() {
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_NOT_A_SNAPSHOT, () ->
+                BinaryAddressBookFormat.read("{ \"persons\": [] }".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIoException() throws Exception {
+        byte[] bytes = toBytes(getTypicalAddressBook());
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) 99);
+
+        assertThrows(IOException.class, String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION, 99), () ->
+                BinaryAddressBookFormat.read(bytes));
+    }
+
+    @Test
+    public void read_corruptedBody_throwsIoException() throws Exception {
+        byte[] bytes = toBytes(getTypicalAddressBook());
+        bytes[bytes.length - 5] ^= 0x10;
+
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_CHECKSUM_MISMATCH, () ->
+                BinaryAddressBookFormat.read(bytes));
+    }
+
+    @Test
+    public void read_truncated_throwsIoException() throws Exception {
+        byte[] bytes = toBytes(getTypicalAddressBook());
+
+        assertThrows(IOException.class, () -> BinaryAddressBookFormat.read(Arrays.copyOf(bytes, bytes.length / 2)));
+        assertThrows(IOException.class, () -> BinaryAddressBookFormat.read(Arrays.copyOf(bytes, 8)));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Person person = new PersonBuilder().build();
+        ReadOnlyAddressBook duplicates = () -> FXCollections.observableArrayList(person, person);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryAddressBookFormat.read(toBytes(duplicates)));
+    }
+
+    private static byte[] toBytes(ReadOnlyAddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(addressBook, out);
+        return out.toByteArray();
+    }
+}
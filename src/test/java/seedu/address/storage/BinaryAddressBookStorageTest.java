@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "BinaryAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "fastcard.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "fastcard.json")));
+        assertEquals(Paths.get("data", "contacts.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "contacts")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("book.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(testFolder.resolve("book.bin")));
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonExists_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("import.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonNewerThanSnapshot_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("edited.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        storage.saveAddressBook(new AddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(storage.getAddressBookFilePath(), FileTime.fromMillis(0));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotNewerThanJson_readsSnapshot() throws Exception {
+        Path jsonFilePath = testFolder.resolve("stale.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_version1Snapshot_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("unused.json"));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                storage.readAddressBook(TEST_DATA_FOLDER.resolve("version1TypicalPersons.bin")).get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_exportedAsJson() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("main.json"));
+        Path exportPath = testFolder.resolve("export.json");
+
+        storage.saveAddressBook(getTypicalAddressBook(), exportPath);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(exportPath).get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("corrupt.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        bytes[bytes.length - 1] ^= 0x1;
+        Files.write(storage.getAddressBookFilePath(), bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("null.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
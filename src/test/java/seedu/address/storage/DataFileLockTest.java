@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileLockTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getLockFilePath() {
+        assertEquals(testFolder.resolve("fastcard.json.lock"),
+                DataFileLock.getLockFilePath(testFolder.resolve("fastcard.json")));
+    }
+
+    @Test
+    public void tryAcquire_heldElsewhere_emptyUntilReleased() throws Exception {
+        Path dataFilePath = testFolder.resolve("data").resolve("fastcard.json");
+
+        DataFileLock lock = DataFileLock.tryAcquire(dataFilePath).get();
+        assertTrue(lock.isHeld());
+        assertTrue(Files.exists(DataFileLock.getLockFilePath(dataFilePath)));
+        assertEquals(Optional.empty(), DataFileLock.tryAcquire(dataFilePath));
+
+        lock.close();
+        assertFalse(lock.isHeld());
+        try (DataFileLock reacquired = DataFileLock.tryAcquire(dataFilePath).get()) {
+            assertTrue(reacquired.isHeld());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    private static final long NO_COMPACTION = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("colleague").build();
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // only the journal grows
+        assertEquals(new String(snapshot), new String(Files.readAllBytes(filePath)));
+        assertTrue(Files.size(storage.getJournalFilePath()) > emptyJournalSize);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+        storage.close();
+        reopened.close();
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("continue.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        reopened.close();
+
+        addressBook.addPerson(IDA);
+        JournalAddressBookStorage third = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(addressBook, new AddressBook(third.readAddressBook().get()));
+        third.close();
+    }
+
+    @Test
+    public void readAddressBook_tornFinalRecord_truncated() throws Exception {
+        Path filePath = testFolder.resolve("torn.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        Path journalPath = storage.getJournalFilePath();
+        long intactSize = Files.size(journalPath);
+        // a record header promising more bytes than were written
+        Files.write(journalPath, new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 1, 0}, StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+        assertEquals(intactSize, Files.size(journalPath));
+        reopened.close();
+    }
+
+    @Test
+    public void readAddressBook_corruptRecord_laterRecordsDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("corrupt.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+        AddressBook withHoon = new AddressBook(addressBook);
+        withHoon.addPerson(HOON);
+        storage.saveAddressBook(withHoon);
+        storage.close();
+
+        // flip the last byte of the only record so that its checksum no longer matches
+        Path journalPath = storage.getJournalFilePath();
+        byte[] journal = Files.readAllBytes(journalPath);
+        journal[journal.length - 1] ^= 0x1;
+        Files.write(journalPath, journal);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+        assertEquals(emptyJournalSize, Files.size(journalPath));
+        reopened.close();
+    }
+
+    @Test
+    public void saveAddressBook_appendFailsPartway_journalRolledBack() throws Exception {
+        Path filePath = testFolder.resolve("failing.json");
+        boolean[] isFailing = {false};
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION) {
+            @Override
+            void writeToJournal(FileChannel journal, ByteBuffer buffer) throws IOException {
+                if (isFailing[0]) {
+                    buffer.limit(buffer.position() + buffer.remaining() / 2);
+                    super.writeToJournal(journal, buffer);
+                    throw new IOException("Disk full");
+                }
+                super.writeToJournal(journal, buffer);
+            }
+        };
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        isFailing[0] = true;
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+
+        // the next save is not lost behind the torn record
+        isFailing[0] = false;
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+        reopened.close();
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("replaced.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        // the data file is replaced outside the app, so the journal no longer applies to it
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(replacement, new AddressBook(reopened.readAddressBook().get()));
+        reopened.close();
+    }
+
+    @Test
+    public void compact_journalFoldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.compact();
+
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saving continues on the compacted journal
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, NO_COMPACTION);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+        reopened.close();
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("background.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.close();
+
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_savedAsJson() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("main.json"));
+        Path otherPath = testFolder.resolve("other.json");
+
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(otherPath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherPath).get()));
+        storage.close();
+    }
+}
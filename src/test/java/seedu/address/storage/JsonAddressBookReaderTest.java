@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.RecoveryReport.DamagedRecord;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path LEGACY_TYPICAL_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyTypicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_legacyTypicalPersonsFile_personsUpgraded() throws Exception {
+        try (InputStream in = Files.newInputStream(LEGACY_TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_legacyPersonWithNullDetail_personUpgraded() throws Exception {
+        String json = "{ \"persons\": [ { \"name\": \"Alice Pauline\", \"phone\": \"94351253\", "
+                + "\"email\": \"alice@example.com\", \"company\": \"Google\", \"detail\": null, "
+                + "\"tags\": [ \"friends\" ] } ] }";
+        AddressBook expected = new AddressBook();
+        expected.addPerson(TypicalPersons.ALICE);
+        assertEquals(expected, JsonAddressBookReader.read(toStream(json)));
+    }
+
+    @Test
+    public void read_currentVersionPersonWithoutDetail_throwsIllegalValueException() {
+        String json = "{ \"version\": " + JsonPersonMigrator.CURRENT_VERSION + ", \"persons\": [ { "
+                + "\"name\": \"Alice Pauline\", \"phone\": \"94351253\", \"email\": \"alice@example.com\", "
+                + "\"company\": \"Google\" } ] }";
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(toStream(json)));
+    }
+
+    @Test
+    public void read_invalidVersion_throwsIoException() {
+        int newerVersion = JsonPersonMigrator.CURRENT_VERSION + 1;
+        assertThrows(IOException.class, String.format(JsonPersonMigrator.MESSAGE_NEWER_VERSION, newerVersion), () ->
+                JsonAddressBookReader.read(toStream("{ \"version\": " + newerVersion + ", \"persons\": [] }")));
+        assertThrows(IOException.class, String.format(JsonPersonMigrator.MESSAGE_INVALID_VERSION, 0), () ->
+                JsonAddressBookReader.read(toStream("{ \"version\": 0, \"persons\": [] }")));
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_VERSION_NOT_AN_INT, () ->
+                JsonAddressBookReader.read(toStream("{ \"version\": \"2\", \"persons\": [] }")));
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_VERSION_AFTER_PERSONS, () ->
+                JsonAddressBookReader.read(toStream("{ \"persons\": [], \"version\": 2 }")));
+    }
+
+    @Test
+    public void read_checksumMismatch_personLoadedAsEdited() throws Exception {
+        String json = writeTypicalAddressBook().replace("\"Alice Pauline\"", "\"Alice Paulina\"");
+
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        expected.setPerson(TypicalPersons.ALICE,
+                new PersonBuilder(TypicalPersons.ALICE).withName("Alice Paulina").build());
+        assertEquals(expected, JsonAddressBookReader.read(toStream(json)));
+    }
+
+    @Test
+    public void recover_damagedAndTruncatedPersons_intactPersonsRecovered() throws Exception {
+        String json = writeTypicalAddressBook();
+        json = json.replace("\"Benson Meier\",", "\"Benson Meier,");
+        json = json.substring(0, json.indexOf("\"George Best\""));
+
+        List<DamagedRecord> damagedRecords = new ArrayList<>();
+        AddressBook recovered = JsonAddressBookReader.recover(toReader(json), damagedRecords);
+
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        expected.removePerson(TypicalPersons.BENSON);
+        expected.removePerson(TypicalPersons.GEORGE);
+        assertEquals(expected, recovered);
+        assertEquals(2, damagedRecords.size());
+        assertEquals(JsonAddressBookReader.REASON_NOT_JSON, damagedRecords.get(0).getReason());
+        assertEquals(JsonAddressBookReader.REASON_TRUNCATED, damagedRecords.get(1).getReason());
+        assertEquals(7, damagedRecords.get(1).getPosition());
+    }
+
+    @Test
+    public void recover_noPersonsList_throwsIoException() {
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_NOT_RECOVERABLE, () ->
+                JsonAddressBookReader.recover(toReader("not json format!"), new ArrayList<>()));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoPersons_emptyAddressBook() throws Exception {
+        String json = "{ \"version\": 1, \"meta\": { \"persons\": [ null ] }, \"tags\": [ 1, 2 ] }";
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(toStream(json)));
+    }
+
+    @Test
+    public void read_malformedStructure_throwsIoException() {
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_NOT_AN_OBJECT, () ->
+                JsonAddressBookReader.read(toStream("[]")));
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_PERSONS_NOT_AN_ARRAY, () ->
+                JsonAddressBookReader.read(toStream("{ \"persons\": {} }")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("{ \"persons\": [ ")));
+    }
+
+    @Test
+    public void read_nullPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_NULL_PERSON, () ->
+                JsonAddressBookReader.read(toStream("{ \"persons\": [ null ] }")));
+    }
+
+    private static String writeTypicalAddressBook() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static BufferedReader toReader(String json) {
+        return new BufferedReader(new StringReader(json));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
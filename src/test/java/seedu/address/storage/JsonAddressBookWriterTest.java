@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_typicalAddressBook_readBackEqual() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonAddressBookWriter.write(getTypicalAddressBook(), out);
+
+        AddressBook readBack = JsonAddressBookReader.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(getTypicalAddressBook(), readBack);
+    }
+
+    @Test
+    public void write_typicalAddressBook_versionWrittenFirst() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonAddressBookWriter.write(getTypicalAddressBook(), out);
+
+        String json = out.toString("UTF-8").replaceAll("\\s", "");
+        assertTrue(json.startsWith("{\"version\":" + JsonPersonMigrator.CURRENT_VERSION + ",\"persons\":["));
+    }
+
+    @Test
+    public void write_typicalAddressBook_sameJsonAsSerializableAddressBook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonAddressBookWriter.write(getTypicalAddressBook(), out);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook()));
+        assertEquals(expected, out.toString("UTF-8"));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeLog;
+
+public class JsonChangeLogStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getChangeLogFilePath_besideDataFile() {
+        assertEquals(testFolder.resolve("addressbook.json.changes.json"),
+                JsonChangeLogStorage.getChangeLogFilePath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readChangeLog_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonChangeLogStorage(testFolder.resolve("missing.json")).readChangeLog().isPresent());
+    }
+
+    @Test
+    public void readAndSaveChangeLog_allInOrder_success() throws Exception {
+        Instant time = Instant.ofEpochMilli(1_700_000_000_000L);
+        ChangeLog original = new ChangeLog(3, 1, List.of(
+                new ChangeLog.Entry(ALICE, false, 2, time, 2, time),
+                new ChangeLog.Entry(BENSON, true, 3, time.plusSeconds(1), ChangeLog.NO_SEQUENCE, null)));
+        JsonChangeLogStorage storage = new JsonChangeLogStorage(testFolder.resolve("data").resolve("changes.json"));
+
+        storage.saveChangeLog(original);
+        assertEquals(original, storage.readChangeLog().get());
+    }
+
+    @Test
+    public void readChangeLog_entryNewerThanSequence_throwsDataLoadingException() throws Exception {
+        Instant time = Instant.ofEpochMilli(1_700_000_000_000L);
+        JsonChangeLogStorage storage = new JsonChangeLogStorage(testFolder.resolve("changes.json"));
+        storage.saveChangeLog(new ChangeLog(1, 0, List.of(new ChangeLog.Entry(ALICE, false, 2, time, 2, time))));
+
+        assertThrows(DataLoadingException.class, storage::readChangeLog);
+    }
+
+    @Test
+    public void readChangeLog_notJsonFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("changes.json");
+        Files.writeString(filePath, "not json");
+        assertThrows(DataLoadingException.class, () -> new JsonChangeLogStorage(filePath).readChangeLog());
+    }
+}
@@ -2,15 +2,20 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonCompanyBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +92,60 @@ public class JsonCompanyBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_checksumMismatch_loadedAsEdited() throws Exception {
+        Path filePath = testFolder.resolve("fastcard.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        replaceInFile(filePath, "\"" + ALICE.getEmail().value + "\"", "\"alice@fastcard.com\"");
+
+        List<RecoveryReport> reports = new ArrayList<>();
+        storage.setRecoveryHandler(reports::add);
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, new PersonBuilder(ALICE).withEmail("alice@fastcard.com").build());
+        assertEquals(expected, storage.readAddressBook().get());
+        assertTrue(reports.isEmpty());
+        assertFalse(Files.exists(JsonAddressBookStorage.getQuarantineFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_readAgain_damagedPersonQuarantinedOnce() throws Exception {
+        Path filePath = testFolder.resolve("fastcard.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        replaceInFile(filePath, "\"" + BENSON.getName().fullName + "\",", "\"" + BENSON.getName().fullName + ",");
+
+        storage.readAddressBook();
+        String quarantined = Files.readString(JsonAddressBookStorage.getQuarantineFilePath(filePath));
+        storage.readAddressBook();
+        assertEquals(quarantined, Files.readString(JsonAddressBookStorage.getQuarantineFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_notValidJson_intactPersonsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("fastcard.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        replaceInFile(filePath, "\"" + BENSON.getName().fullName + "\",", "\"" + BENSON.getName().fullName + ",");
+
+        List<RecoveryReport> reports = new ArrayList<>();
+        storage.setRecoveryHandler(reports::add);
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(BENSON);
+        assertEquals(expected, storage.readAddressBook().get());
+
+        assertEquals(2, reports.get(0).getDamagedRecords().get(0).getPosition());
+        assertEquals(JsonAddressBookReader.REASON_NOT_JSON, reports.get(0).getDamagedRecords().get(0).getReason());
+        assertTrue(Files.readString(JsonAddressBookStorage.getQuarantineFilePath(filePath))
+                .contains(BENSON.getName().fullName));
+    }
+
+    private static void replaceInFile(Path filePath, String target, String replacement) throws IOException {
+        String content = Files.readString(filePath);
+        assertTrue(content.contains(target));
+        Files.writeString(filePath, content.replace(target, replacement));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class JsonPersonMigratorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void checkVersion() throws Exception {
+        JsonPersonMigrator.checkVersion(JsonPersonMigrator.LEGACY_VERSION);
+        JsonPersonMigrator.checkVersion(JsonPersonMigrator.CURRENT_VERSION);
+        assertThrows(IOException.class, () -> JsonPersonMigrator.checkVersion(JsonPersonMigrator.CURRENT_VERSION + 1));
+        assertThrows(IOException.class, () -> JsonPersonMigrator.checkVersion(JsonPersonMigrator.LEGACY_VERSION - 1));
+    }
+
+    @Test
+    public void migrate_legacyPerson_detailAdded() {
+        ObjectNode person = mapper.createObjectNode().put("name", "Alice Pauline");
+        JsonPersonMigrator.migrate(person, JsonPersonMigrator.LEGACY_VERSION);
+        assertEquals("", person.get("detail").asText());
+
+        ObjectNode personWithDetail = mapper.createObjectNode().put("detail", "Met at a career fair");
+        JsonPersonMigrator.migrate(personWithDetail, JsonPersonMigrator.LEGACY_VERSION);
+        assertEquals("Met at a career fair", personWithDetail.get("detail").asText());
+    }
+
+    @Test
+    public void migrate_currentPersonOrNotAnObject_unchanged() {
+        ObjectNode person = mapper.createObjectNode().put("name", "Alice Pauline");
+        JsonPersonMigrator.migrate(person, JsonPersonMigrator.CURRENT_VERSION);
+        assertEquals(mapper.createObjectNode().put("name", "Alice Pauline"), person);
+
+        JsonNode notAnObject = mapper.createArrayNode();
+        JsonPersonMigrator.migrate(notAnObject, JsonPersonMigrator.LEGACY_VERSION);
+        assertEquals(mapper.createArrayNode(), notAnObject);
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PagedAddressBookStorageTest {
+
+    private static final int LARGE_BOOK_SIZE = 2000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getPagedFilePath() {
+        assertEquals(Paths.get("data", "fastcard.db"),
+                PagedAddressBookStorage.getPagedFilePath(Paths.get("data", "fastcard.json")));
+    }
+
+    @Test
+    public void readAddressBook_nothingSaved_emptyResult() throws Exception {
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(testFolder.resolve("missing.json"))) {
+            assertFalse(storage.readAddressBook().isPresent());
+        }
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonExists_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("import.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+            assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("book.json");
+        AddressBook original = getTypicalAddressBook();
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+            storage.saveAddressBook(original);
+            assertEquals(original, readWithNewStorage(jsonFilePath));
+
+            // additions, edits, deletions and reordering keep the order of the contact book
+            original.addPerson(HOON);
+            original.setPerson(ALICE, new PersonBuilder(ALICE).withTags("colleague").build());
+            original.removePerson(BENSON);
+            original.addPerson(IDA);
+            storage.saveAddressBook(original);
+            assertEquals(original, readWithNewStorage(jsonFilePath));
+
+            original.sort(Comparator.comparing(person -> person.getPhone().value));
+            storage.saveAddressBook(original);
+        }
+        assertEquals(original, readWithNewStorage(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_fewPagesChanged() throws Exception {
+        Path jsonFilePath = testFolder.resolve("large.json");
+        Path filePath = PagedAddressBookStorage.getPagedFilePath(jsonFilePath);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < LARGE_BOOK_SIZE; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+            storage.saveAddressBook(addressBook);
+            byte[] before = Files.readAllBytes(filePath);
+
+            storage.saveAddressBook(addressBook);
+            assertArrayEquals(before, Files.readAllBytes(filePath));
+
+            Person edited = addressBook.getPersonList().get(LARGE_BOOK_SIZE / 2);
+            addressBook.setPerson(edited, new PersonBuilder(edited).withTags("edited").build());
+            storage.saveAddressBook(addressBook);
+            byte[] after = Files.readAllBytes(filePath);
+
+            int pageCount = before.length / Pager.PAGE_SIZE;
+            int changedPages = 0;
+            for (int i = 0; i < pageCount; i++) {
+                int start = i * Pager.PAGE_SIZE;
+                if (!Arrays.equals(before, start, start + Pager.PAGE_SIZE, after, start, start + Pager.PAGE_SIZE)) {
+                    changedPages++;
+                }
+            }
+            assertTrue(changedPages <= 3, changedPages + " of " + pageCount + " pages changed");
+        }
+        assertEquals(addressBook, readWithNewStorage(jsonFilePath));
+    }
+
+    @Test
+    public void findPersons_savedBook_lookedUpByIndex() throws Exception {
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(testFolder.resolve("find.json"))) {
+            assertEquals(List.of(), storage.findPersonsByEmail(ALICE.getEmail().value));
+
+            storage.saveAddressBook(getTypicalAddressBook());
+
+            assertEquals(List.of(ALICE), storage.findPersonsByEmail("ALICE@example.com"));
+            assertEquals(List.of(BENSON), storage.findPersonsByNamePrefix("benson"));
+            assertEquals(List.of(BENSON, CARL), storage.findPersonsByNamePrefix("").subList(1, 3));
+            assertEquals(List.of(), storage.findPersonsByNamePrefix("zz"));
+            assertEquals(Optional.of(ALICE), storage.findPersonByIdentityKey(ALICE.getIdentityKey()));
+            assertEquals(Optional.empty(), storage.findPersonByIdentityKey(HOON.getIdentityKey()));
+        }
+    }
+
+    @Test
+    public void findPersons_savedInOtherLocale_found() throws Exception {
+        Path jsonFilePath = testFolder.resolve("locale.json");
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // lowercases "I" to a dotless "\u0131"
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+                AddressBook addressBook = new AddressBook();
+                addressBook.addPerson(IDA);
+                storage.saveAddressBook(addressBook);
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+            assertEquals(List.of(IDA), storage.findPersonsByNamePrefix("ida"));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_savedAsJson() throws Exception {
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(testFolder.resolve("main.json"))) {
+            Path exportPath = testFolder.resolve("export.json");
+
+            storage.saveAddressBook(getTypicalAddressBook(), exportPath);
+
+            assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(exportPath).get()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_notAPageFile_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("invalid.json");
+        Files.writeString(PagedAddressBookStorage.getPagedFilePath(jsonFilePath), "not a page file");
+
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+            assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+            // saving replaces the unreadable file
+            storage.saveAddressBook(getTypicalAddressBook());
+        }
+        assertEquals(getTypicalAddressBook(), readWithNewStorage(jsonFilePath));
+    }
+
+    private static AddressBook readWithNewStorage(Path jsonFilePath) throws Exception {
+        try (PagedAddressBookStorage storage = new PagedAddressBookStorage(jsonFilePath)) {
+            return new AddressBook(storage.readAddressBook().get());
+        }
+    }
+}
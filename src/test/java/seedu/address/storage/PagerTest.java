@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PagerTest {
+
+    private static final int CAPACITY = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_notAPageFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("notPages.db");
+        Files.writeString(filePath, "not a page file");
+        assertThrows(IOException.class, Pager.MESSAGE_NOT_A_PAGE_FILE, () -> Pager.open(filePath, CAPACITY));
+    }
+
+    @Test
+    public void commit_changesSurviveReopening() throws Exception {
+        Path filePath = testFolder.resolve("commit.db");
+        try (Pager pager = Pager.open(filePath, CAPACITY)) {
+            int pageId = pager.allocate();
+            pager.write(pageId).putInt(0, 42);
+            pager.setRoot(0, pageId);
+            pager.commit();
+        }
+
+        assertFalse(Files.exists(journalPath(filePath)));
+        try (Pager pager = Pager.open(filePath, CAPACITY)) {
+            assertEquals(42, pager.read(pager.getRoot(0)).getInt(0));
+        }
+    }
+
+    @Test
+    public void rollback_changesDiscarded() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("rollback.db"), CAPACITY)) {
+            int pageId = pager.allocate();
+            pager.write(pageId).putInt(0, 1);
+            pager.commit();
+
+            pager.write(pageId).putInt(0, 2);
+            pager.allocate();
+            pager.rollback();
+
+            assertEquals(1, pager.read(pageId).getInt(0));
+            assertEquals(2, pager.getPageCount());
+        }
+    }
+
+    @Test
+    public void open_interruptedTransaction_rolledBack() throws Exception {
+        Path filePath = testFolder.resolve("interrupted.db");
+        try (Pager pager = Pager.open(filePath, CAPACITY)) {
+            for (int i = 1; i <= 4; i++) {
+                pager.write(pager.allocate()).putInt(0, i);
+            }
+            pager.commit();
+
+            // changed pages are written to the file as they are evicted, before the transaction is committed
+            pager.write(1).putInt(0, -1);
+            pager.free(2);
+            for (int i = 3; i <= 4; i++) {
+                pager.read(i);
+            }
+            pager.allocate();
+            assertTrue(Files.exists(journalPath(filePath)));
+        }
+
+        try (Pager pager = Pager.open(filePath, CAPACITY)) {
+            assertFalse(Files.exists(journalPath(filePath)));
+            assertEquals(5, pager.getPageCount());
+            for (int i = 1; i <= 4; i++) {
+                assertEquals(i, pager.read(i).getInt(0));
+            }
+        }
+    }
+
+    @Test
+    public void read_manyPages_poolStaysWithinCapacity() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("pool.db"), CAPACITY)) {
+            for (int i = 0; i < 20; i++) {
+                pager.write(pager.allocate()).putInt(0, i);
+            }
+            pager.commit();
+            for (int i = 1; i <= 20; i++) {
+                assertEquals(i - 1, pager.read(i).getInt(0));
+                // page 0 is always kept in addition to the least recently used pages
+                assertTrue(pager.getCachedPageCount() <= CAPACITY + 1);
+            }
+        }
+    }
+
+    @Test
+    public void allocate_freedPage_reused() throws Exception {
+        try (Pager pager = Pager.open(testFolder.resolve("free.db"), CAPACITY)) {
+            int first = pager.allocate();
+            pager.write(first).putInt(0, 7);
+            pager.allocate();
+            pager.free(first);
+
+            assertEquals(first, pager.allocate());
+            assertEquals(0, pager.read(first).getInt(0));
+            assertEquals(3, pager.getPageCount());
+        }
+    }
+
+    private static Path journalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + Pager.JOURNAL_SUFFIX);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonConverter.CHUNK_SIZE * 5 + 7;
+
+    @Test
+    public void finish_manyChunks_orderPreserved() throws Exception {
+        List<Person> persons = persons(PERSON_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ParallelPersonConverter converter = new ParallelPersonConverter(executor);
+            persons.forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+            assertEquals(persons, converter.finish().getPersonList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void convertAll_noPersons_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), ParallelPersonConverter.convertAll(List.of()));
+    }
+
+    @Test
+    public void finish_positionsGiven_invalidPersonReportedAtItsPosition() {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.add(new JsonAdaptedPerson(persons(1).get(0)), 1);
+        // the person at position 2 was left out, so the next one is at position 3
+        converter.add(new JsonAdaptedPerson("R@chel", "98765432", "rachel@example.com", "Google", "", List.of()), 3);
+
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSONS, 1,
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 3, Name.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, converter::finish);
+    }
+
+    @Test
+    public void convertAll_invalidPersonsInSeveralChunks_allReported() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = adapted(persons(PERSON_COUNT));
+        int[] invalidPositions = {0, ParallelPersonConverter.CHUNK_SIZE + 3, PERSON_COUNT - 1};
+        for (int position : invalidPositions) {
+            jsonAdaptedPersons.set(position, new JsonAdaptedPerson("R@chel", "98765432", "rachel@example.com",
+                    "Google", "", List.of()));
+        }
+        jsonAdaptedPersons.set(2, new JsonAdaptedPerson("Valid Name", "+651234", "valid@example.com",
+                "Google", "", List.of()));
+
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSONS, 4,
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 1, Name.MESSAGE_CONSTRAINTS)
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 3, Phone.MESSAGE_CONSTRAINTS)
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON,
+                        ParallelPersonConverter.CHUNK_SIZE + 4, Name.MESSAGE_CONSTRAINTS)
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON,
+                        PERSON_COUNT, Name.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelPersonConverter.convertAll(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void convertAll_manyInvalidPersons_reportTruncated() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < ParallelPersonConverter.MAX_REPORTED_ERRORS + 5; i++) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson("R@chel", "98765432", "rachel@example.com",
+                    "Google", "", List.of()));
+        }
+        IllegalValueException exception = null;
+        try {
+            ParallelPersonConverter.convertAll(jsonAdaptedPersons);
+        } catch (IllegalValueException ive) {
+            exception = ive;
+        }
+        String expectedEnding = String.format(ParallelPersonConverter.MESSAGE_MORE_INVALID_PERSONS, 5);
+        assertTrue(exception != null && exception.getMessage().endsWith(expectedEnding));
+    }
+
+    @Test
+    public void convertAll_duplicatesInDifferentChunks_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = adapted(persons(PERSON_COUNT));
+        jsonAdaptedPersons.add(jsonAdaptedPersons.get(1));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.convertAll(jsonAdaptedPersons));
+    }
+
+    private static List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapted(List<Person> persons) {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        persons.forEach(person -> jsonAdaptedPersons.add(new JsonAdaptedPerson(person)));
+        return jsonAdaptedPersons;
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.storage.RecoveryReport.DamagedRecord;
+
+public class RecoveryReportTest {
+
+    private static final Path DATA_FILE_PATH = Paths.get("data", "fastcard.json");
+    private static final Path QUARANTINE_FILE_PATH = JsonAddressBookStorage.getQuarantineFilePath(DATA_FILE_PATH);
+
+    @Test
+    public void toString_fewDamagedRecords_allListed() {
+        RecoveryReport report = new RecoveryReport(DATA_FILE_PATH, QUARANTINE_FILE_PATH, 5,
+                List.of(new DamagedRecord(2, "it is not valid JSON", "{ \"name\" : \"Benson }")));
+        assertEquals(String.format(RecoveryReport.MESSAGE_RECOVERED, "fastcard.json", 5, 1, "fastcard.json.quarantine",
+                "contact 2 (it is not valid JSON)"), report.toString());
+    }
+
+    @Test
+    public void toString_manyDamagedRecords_restCounted() {
+        List<DamagedRecord> damagedRecords = new ArrayList<>();
+        for (int position = 1; position <= RecoveryReport.MAX_LISTED_RECORDS + 2; position++) {
+            damagedRecords.add(new DamagedRecord(position, "reason", "{}"));
+        }
+        RecoveryReport report = new RecoveryReport(DATA_FILE_PATH, QUARANTINE_FILE_PATH, 0, damagedRecords);
+        assertEquals(String.format(RecoveryReport.MESSAGE_RECOVERED, "fastcard.json", 0, damagedRecords.size(),
+                "fastcard.json.quarantine", "contact 1 (reason), contact 2 (reason), contact 3 (reason), "
+                        + "contact 4 (reason), contact 5 (reason) and 2 more"), report.toString());
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(null));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("book.json"), 0));
+    }
+
+    @Test
+    public void getShardDirectory() {
+        assertEquals(Paths.get("data", "fastcard-shards"),
+                ShardedAddressBookStorage.getShardDirectory(Paths.get("data", "fastcard.json")));
+    }
+
+    @Test
+    public void readAddressBook_nothingSaved_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonExists_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("import.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("book.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(SHARD_COUNT, shardFiles(jsonFilePath).size());
+        assertEquals(original, readWithNewStorage(jsonFilePath));
+
+        // additions, edits, deletions and reordering keep the order of the contact book
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withTags("colleague").build());
+        original.removePerson(BENSON);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(jsonFilePath));
+
+        original.sort(Comparator.comparing(person -> person.getPhone().value));
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(jsonFilePath));
+        assertEquals(SHARD_COUNT, shardFiles(jsonFilePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonAdded_onlyItsShardRewritten() throws Exception {
+        Path jsonFilePath = testFolder.resolve("dirty.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> before = shardFiles(jsonFilePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Set<String> after = shardFiles(jsonFilePath);
+        after.removeAll(before);
+        assertEquals(1, after.size());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedShardRewritten() throws Exception {
+        Path jsonFilePath = testFolder.resolve("reopen.json");
+        new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Set<String> before = shardFiles(jsonFilePath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertEquals(before, shardFiles(jsonFilePath));
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Set<String> after = shardFiles(jsonFilePath);
+        after.removeAll(before);
+        assertEquals(1, after.size());
+        assertEquals(addressBook, readWithNewStorage(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_savedAsJson() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("main.json"));
+        Path exportPath = testFolder.resolve("export.json");
+
+        storage.saveAddressBook(getTypicalAddressBook(), exportPath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(exportPath).get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("missingShard.json");
+        new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(jsonFilePath);
+        Files.delete(shardDirectory.resolve(shardFiles(jsonFilePath).iterator().next()));
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_malformedShard_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("malformed.json");
+        new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(jsonFilePath);
+        Files.writeString(shardDirectory.resolve(shardFiles(jsonFilePath).iterator().next()),
+                "{ \"entries\": [ { \"person\": {} } ] }");
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT).readAddressBook());
+    }
+
+    private static AddressBook readWithNewStorage(Path jsonFilePath) throws DataLoadingException {
+        return new AddressBook(new ShardedAddressBookStorage(jsonFilePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    private static Set<String> shardFiles(Path jsonFilePath) throws IOException {
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardDirectory(jsonFilePath))) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
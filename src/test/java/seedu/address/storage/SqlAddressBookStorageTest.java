@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    private static final int LARGE_BOOK_SIZE = 2000;
+    private static final long OTHER_INSTANCE_TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSqlFilePath() {
+        assertEquals(Paths.get("data", "fastcard.mv.db"),
+                SqlAddressBookStorage.getSqlFilePath(Paths.get("data", "fastcard.json")));
+    }
+
+    @Test
+    public void readAddressBook_nothingSaved_emptyResult() throws Exception {
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("missing.json"))) {
+            assertFalse(storage.readAddressBook().isPresent());
+        }
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonExists_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("import.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(jsonFilePath)) {
+            AddressBook imported = new AddressBook(storage.readAddressBook().get());
+            assertEquals(getTypicalAddressBook(), imported);
+
+            storage.saveAddressBook(imported);
+        }
+        assertTrue(Files.exists(SqlAddressBookStorage.getSqlFilePath(jsonFilePath)));
+        assertEquals(getTypicalAddressBook(), readWithNewStorage(jsonFilePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("book.json");
+        AddressBook original = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(jsonFilePath)) {
+            storage.saveAddressBook(original);
+            assertEquals(original, readWithNewStorage(jsonFilePath));
+
+            // additions, edits, deletions and reordering keep the order of the contact book
+            original.addPerson(HOON);
+            original.setPerson(ALICE, new PersonBuilder(ALICE).withTags("colleague").build());
+            original.removePerson(BENSON);
+            original.addPerson(IDA);
+            storage.saveAddressBook(original);
+            assertEquals(original, readWithNewStorage(jsonFilePath));
+
+            original.sort(Comparator.comparing(person -> person.getPhone().value));
+            storage.saveAddressBook(original);
+        }
+        assertEquals(original, readWithNewStorage(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsRowsChanged() throws Exception {
+        Path jsonFilePath = testFolder.resolve("large.json");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < LARGE_BOOK_SIZE; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(jsonFilePath)) {
+            storage.saveAddressBook(addressBook);
+            assertEquals(LARGE_BOOK_SIZE, storage.getLastSaveChangedRows());
+
+            storage.saveAddressBook(addressBook);
+            assertEquals(0, storage.getLastSaveChangedRows());
+
+            Person edited = addressBook.getPersonList().get(LARGE_BOOK_SIZE / 2);
+            addressBook.setPerson(edited, new PersonBuilder(edited).withTags("edited").build());
+            storage.saveAddressBook(addressBook);
+            // the edited person's row is deleted and inserted again
+            assertEquals(2, storage.getLastSaveChangedRows());
+        }
+        assertEquals(addressBook, readWithNewStorage(jsonFilePath));
+    }
+
+    @Test
+    public void findPersons_savedBook_lookedUpByIndex() throws Exception {
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("find.json"))) {
+            assertEquals(List.of(), storage.findPersonsByEmail(ALICE.getEmail().value));
+
+            storage.saveAddressBook(getTypicalAddressBook());
+
+            assertEquals(List.of(ALICE), storage.findPersonsByEmail("ALICE@example.com"));
+            assertEquals(List.of(BENSON), storage.findPersonsByNamePrefix("benson"));
+            assertEquals(List.of(BENSON, CARL), storage.findPersonsByNamePrefix("").subList(1, 3));
+            assertEquals(List.of(), storage.findPersonsByNamePrefix("%"));
+            assertEquals(List.of(ALICE, BENSON, DANIEL), storage.findPersonsByTag("FRIENDS"));
+            assertEquals(List.of(ALICE), storage.findPersonsByCompany("google"));
+            assertEquals(Optional.of(ALICE), storage.findPersonByIdentityKey(ALICE.getIdentityKey()));
+            assertEquals(Optional.empty(), storage.findPersonByIdentityKey(HOON.getIdentityKey()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_databaseOpenInAnotherProcess_readsSavedBook() throws Exception {
+        Path jsonFilePath = testFolder.resolve("shared.json");
+        Path javaPath = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process otherInstance = new ProcessBuilder(javaPath.toString(), "-cp", System.getProperty("java.class.path"),
+                OtherInstance.class.getName(), jsonFilePath.toString())
+                .redirectErrorStream(true)
+                .start();
+        try {
+            BufferedReader output = new BufferedReader(new InputStreamReader(otherInstance.getInputStream(),
+                    StandardCharsets.UTF_8));
+            String line;
+            do {
+                line = output.readLine();
+            } while (line != null && !line.equals(OtherInstance.MESSAGE_SAVED));
+            assertEquals(OtherInstance.MESSAGE_SAVED, line);
+
+            // the other process still holds the database open
+            assertEquals(getTypicalAddressBook(), readWithNewStorage(jsonFilePath));
+        } finally {
+            otherInstance.getOutputStream().close();
+            if (!otherInstance.waitFor(OTHER_INSTANCE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                otherInstance.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_savedAsJson() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("book.json"))) {
+            storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        }
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    private static AddressBook readWithNewStorage(Path jsonFilePath) throws Exception {
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(jsonFilePath)) {
+            return new AddressBook(storage.readAddressBook().get());
+        }
+    }
+
+    /**
+     * Another instance of the app, which saves the typical contact book to the database beside the JSON data file
+     * given as its argument, then keeps the database open until its standard input is closed.
+     */
+    public static class OtherInstance {
+        static final String MESSAGE_SAVED = "saved";
+
+        public static void main(String[] args) throws Exception {
+            try (SqlAddressBookStorage storage = new SqlAddressBookStorage(Paths.get(args[0]))) {
+                storage.saveAddressBook(getTypicalAddressBook());
+                System.out.println(MESSAGE_SAVED);
+                System.out.flush();
+                while (System.in.read() != -1) {
+                    // wait for the test to finish
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class WatchedAddressBookStorageTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<WatchedAddressBookStorage.Changes> reported = new LinkedBlockingQueue<>();
+
+    @Test
+    public void checkForChanges_ownSave_notReported() throws Exception {
+        WatchedAddressBookStorage storage = createStorage(testFolder.resolve("own.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.checkForChanges();
+        assertTrue(reported.isEmpty());
+    }
+
+    @Test
+    public void checkForChanges_externalEdits_changedPersonsReported() throws Exception {
+        Path filePath = testFolder.resolve("external.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook external = getTypicalAddressBook();
+        Person editedBenson = new PersonBuilder(BENSON).withCompany("Stripe").build();
+        external.setPerson(BENSON, editedBenson);
+        external.removePerson(CARL);
+        external.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(external);
+
+        storage.checkForChanges();
+        WatchedAddressBookStorage.Changes changes = reported.poll();
+        assertNotNull(changes);
+        assertEquals(List.of(editedBenson, HOON), changes.getChangedPersons());
+        assertEquals(Set.of(CARL.getIdentityKey()), changes.getRemovedIdentityKeys());
+
+        // already reported
+        storage.checkForChanges();
+        assertTrue(reported.isEmpty());
+    }
+
+    @Test
+    public void checkForChanges_editKeepingChecksum_reportedAsEdited() throws Exception {
+        Path filePath = testFolder.resolve("checksum.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replace("\"" + ALICE.getEmail().value + "\"", "\"alice@fastcard.com\""));
+        storage.checkForChanges();
+
+        WatchedAddressBookStorage.Changes changes = reported.poll();
+        assertEquals(List.of(new PersonBuilder(ALICE).withEmail("alice@fastcard.com").build()),
+                changes.getChangedPersons());
+        assertTrue(changes.getRemovedIdentityKeys().isEmpty());
+    }
+
+    @Test
+    public void checkForChanges_editKeepingHashCode_reportedAsEdited() throws Exception {
+        Path filePath = testFolder.resolve("hashCode.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(BENSON).withCompany("Aa").build());
+        storage.saveAddressBook(addressBook);
+
+        // "Aa" and "BB" have the same hash code
+        Person editedBenson = new PersonBuilder(BENSON).withCompany("BB").build();
+        AddressBook external = new AddressBook();
+        external.addPerson(editedBenson);
+        new JsonAddressBookStorage(filePath).saveAddressBook(external);
+        storage.checkForChanges();
+
+        assertEquals(List.of(editedBenson), reported.poll().getChangedPersons());
+    }
+
+    @Test
+    public void checkForChanges_unreadableFile_reportedOnceReadable() throws Exception {
+        Path filePath = testFolder.resolve("unreadable.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(filePath, "{ \"persons\": [");
+        storage.checkForChanges();
+        assertTrue(reported.isEmpty());
+
+        AddressBook external = getTypicalAddressBook();
+        external.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(external);
+        storage.checkForChanges();
+        assertEquals(Set.of(ALICE.getIdentityKey()), reported.poll().getRemovedIdentityKeys());
+    }
+
+    @Test
+    public void saveAddressBook_fileChangedWhileSavePending_externalChangesMerged() throws Exception {
+        Path filePath = testFolder.resolve("pending.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        WriteBehindAddressBookStorage writeBehindStorage = new WriteBehindAddressBookStorage(storage, 60_000, 60_000);
+
+        AddressBook local = getTypicalAddressBook();
+        Person editedBenson = new PersonBuilder(BENSON).withCompany("Stripe").build();
+        local.setPerson(BENSON, editedBenson);
+        writeBehindStorage.saveAddressBook(local);
+
+        AddressBook external = getTypicalAddressBook();
+        external.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(external);
+        writeBehindStorage.close();
+
+        assertEquals(List.of(HOON), reported.poll().getChangedPersons());
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(BENSON, editedBenson);
+        expected.addPerson(HOON);
+        assertEquals(expected, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // the merged contact book is known, so the external change is not reported again
+        storage.checkForChanges();
+        assertTrue(reported.isEmpty());
+    }
+
+    @Test
+    public void applyTo_otherPersonsEdited_onlyChangedPersonsReplaced() {
+        Person editedBenson = new PersonBuilder(BENSON).withCompany("Stripe").build();
+        WatchedAddressBookStorage.Changes changes = new WatchedAddressBookStorage.Changes(
+                List.of(editedBenson, HOON), Set.of(CARL.getIdentityKey()));
+        AddressBook addressBook = getTypicalAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withCompany("Amazon").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        changes.applyTo(addressBook);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, editedAlice);
+        expected.setPerson(BENSON, editedBenson);
+        expected.removePerson(CARL);
+        expected.addPerson(HOON);
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void start_fileChangedByAnotherProgram_changesReported() throws Exception {
+        Path filePath = testFolder.resolve("watched.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        try (storage) {
+            storage.saveAddressBook(getTypicalAddressBook());
+            storage.start();
+
+            AddressBook external = getTypicalAddressBook();
+            external.addPerson(HOON);
+            new JsonAddressBookStorage(filePath).saveAddressBook(external);
+
+            WatchedAddressBookStorage.Changes changes = reported.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(changes);
+            assertEquals(List.of(HOON), changes.getChangedPersons());
+        }
+    }
+
+    private WatchedAddressBookStorage createStorage(Path filePath) {
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.setChangeHandler(reported::add);
+        return storage;
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDelegate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null, 0, 0));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writtenOnce() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("burst.json"));
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(delegate, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, delegate.getSaveCount());
+
+        storage.flush();
+        assertEquals(1, delegate.getSaveCount());
+        assertEquals(addressBook, new AddressBook(delegate.getLastSaved()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotWritten() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("snapshot.json"));
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(delegate, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(delegate.getLastSaved()));
+    }
+
+    @Test
+    public void saveAddressBook_maxStalenessReached_writtenInBackground() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("stale.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, LONG_DELAY_MILLIS, 0);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(delegate.awaitSave());
+        assertEquals(getTypicalAddressBook(), new AddressBook(delegate.getLastSaved()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReported() throws Exception {
+        IOException failure = new IOException("disk full");
+        AddressBookStorage delegate = new RecordingStorage(testFolder.resolve("failing.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, 0, 0);
+        List<IOException> reported = new ArrayList<>();
+        CountDownLatch reportedLatch = new CountDownLatch(1);
+        storage.setSaveFailureHandler(e -> {
+            reported.add(e);
+            reportedLatch.countDown();
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(reportedLatch.await(5, TimeUnit.SECONDS));
+        assertSame(failure, reported.get(0));
+
+        // the failed snapshot is kept, so flushing retries it
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void saveAddressBook_writeFailsOnce_retriedInBackground() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("retry.json")) {
+            private boolean hasFailed;
+
+            @Override
+            public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("disk full");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, 0, 0);
+        List<IOException> reported = new ArrayList<>();
+        storage.setSaveFailureHandler(reported::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // retried without any further save
+        assertTrue(delegate.awaitSave());
+        assertEquals(getTypicalAddressBook(), new AddressBook(delegate.getLastSaved()));
+        assertEquals(1, reported.size());
+    }
+
+    @Test
+    public void close_pendingSave_writtenAndFurtherSavesRejected() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("close.json"));
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(delegate, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        assertEquals(1, delegate.getSaveCount());
+        assertThrows(IOException.class, () -> storage.saveAddressBook(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void readAddressBook_pendingSave_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("read.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS,
+                        LONG_DELAY_MILLIS);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChangeLog_withContactBook_writtenTogetherChangeLogFirst() throws Exception {
+        List<String> writes = new ArrayList<>();
+        AddressBookStorage delegate = new RecordingStorage(testFolder.resolve("together.json")) {
+            @Override
+            public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                writes.add("contact book");
+            }
+        };
+        ChangeLogStorage changeLogDelegate = new JsonChangeLogStorage(testFolder.resolve("together.changes.json")) {
+            @Override
+            public void saveChangeLog(ChangeLog changeLog) throws IOException {
+                writes.add("change log " + changeLog.getSequence());
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, changeLogDelegate,
+                LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        ChangeLog changeLog = new ChangeLog();
+
+        changeLog.record(List.of(), List.of(HOON));
+        storage.saveChangeLog(changeLog);
+        storage.saveAddressBook(getTypicalAddressBook());
+        changeLog.record(List.of(), List.of(IDA));
+        storage.saveChangeLog(changeLog);
+        changeLog.record(List.of(HOON), List.of());
+        storage.flush();
+
+        // the snapshot taken by the last save is written, before the contact book
+        assertEquals(List.of("change log 2", "contact book"), writes);
+    }
+
+    @Test
+    public void readChangeLog_pendingSave_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("read.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        ChangeLog changeLog = new ChangeLog();
+        changeLog.record(List.of(), List.of(HOON));
+
+        storage.saveChangeLog(changeLog);
+
+        assertEquals(JsonChangeLogStorage.getChangeLogFilePath(filePath), storage.getChangeLogFilePath());
+        assertEquals(changeLog, storage.readChangeLog().get());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that records the contact books it saves.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final CountDownLatch savedLatch = new CountDownLatch(1);
+        private int saveCount;
+        private ReadOnlyAddressBook lastSaved;
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                throws IOException {
+            saveCount++;
+            lastSaved = addressBook;
+            savedLatch.countDown();
+        }
+
+        synchronized int getSaveCount() {
+            return saveCount;
+        }
+
+        synchronized ReadOnlyAddressBook getLastSaved() {
+            return lastSaved;
+        }
+
+        boolean awaitSave() throws InterruptedException {
+            return savedLatch.await(5, TimeUnit.SECONDS);
+        }
+    }
+}